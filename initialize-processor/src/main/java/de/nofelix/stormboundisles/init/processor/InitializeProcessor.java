@@ -0,0 +1,278 @@
+package de.nofelix.stormboundisles.init.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the registry of all {@code @Initialize} methods at compile time.
+ * <p>
+ * Every annotated method is validated (public, static, no parameters, void,
+ * in a public top-level or static nested class) and recorded with its
+ * priority, description and dependencies. The processor then writes
+ * {@code de.nofelix.stormboundisles.init.GeneratedInitializers}, which lists
+ * the methods as plain static method references in a topological order of
+ * their dependencies, choosing the highest priority first among methods
+ * that are ready. {@code InitializationRegistry} runs that list at startup,
+ * so no classpath scanning or reflection is needed.
+ * <p>
+ * Invalid methods, duplicate names, unknown dependencies and dependency
+ * cycles are reported as compile errors instead of failing at runtime.
+ */
+@SupportedAnnotationTypes(InitializeProcessor.ANNOTATION)
+public final class InitializeProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "de.nofelix.stormboundisles.init.Initialize";
+
+    private static final String REGISTRY_PACKAGE = "de.nofelix.stormboundisles.init";
+    private static final String REGISTRY_CLASS = "GeneratedInitializers";
+    private static final int DEFAULT_PRIORITY = 1000;
+
+    private final List<InitializerMethod> methods = new ArrayList<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+    private boolean generated = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                collect(element, annotation);
+            }
+        }
+
+        // All annotated methods are hand-written, so they appear in the first round. The
+        // registry is written as soon as methods were found, or at the end if there are none.
+        if (!generated && (!methods.isEmpty() || roundEnv.processingOver())) {
+            generated = true;
+            writeRegistry();
+        }
+        return false;
+    }
+
+    // Private helper methods
+
+    private void collect(Element element, TypeElement annotation) {
+        Messager messager = processingEnv.getMessager();
+        if (element.getKind() != ElementKind.METHOD) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@Initialize is only allowed on methods", element);
+            return;
+        }
+
+        ExecutableElement method = (ExecutableElement) element;
+        TypeElement owner = (TypeElement) method.getEnclosingElement();
+        String name = owner.getSimpleName() + "." + method.getSimpleName();
+
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.STATIC) || !modifiers.contains(Modifier.PUBLIC)
+                || !method.getParameters().isEmpty()
+                || method.getReturnType().getKind() != TypeKind.VOID) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@Initialize method " + name + " must be public static void and take no parameters", method);
+            return;
+        }
+        if (!isAccessible(owner)) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@Initialize method " + name + " must be declared in a public class", method);
+            return;
+        }
+
+        int priority = DEFAULT_PRIORITY;
+        String description = "";
+        List<String> dependsOn = List.of();
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotation)) {
+                continue;
+            }
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                    processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                switch (entry.getKey().getSimpleName().toString()) {
+                    case "priority" -> priority = (Integer) entry.getValue().getValue();
+                    case "description" -> description = (String) entry.getValue().getValue();
+                    case "dependsOn" -> dependsOn = ((List<?>) entry.getValue().getValue()).stream()
+                            .map(value -> (String) ((AnnotationValue) value).getValue())
+                            .toList();
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        methods.add(new InitializerMethod(name, owner.getQualifiedName().toString(),
+                method.getSimpleName().toString(), priority, description, dependsOn, method));
+        originatingElements.add(owner);
+    }
+
+    /**
+     * Orders the methods so that every method comes after its dependencies,
+     * picking the ready method with the highest priority (then name) first.
+     * Reports duplicate names, unknown dependencies and cycles.
+     *
+     * @return The ordered methods, or null if errors were reported
+     */
+    private List<InitializerMethod> orderByDependencies() {
+        Messager messager = processingEnv.getMessager();
+        Map<String, InitializerMethod> byName = new HashMap<>();
+        boolean valid = true;
+        for (InitializerMethod method : methods) {
+            if (byName.putIfAbsent(method.name(), method) != null) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Duplicate @Initialize method name " + method.name(), method.element());
+                valid = false;
+            }
+        }
+
+        Map<String, Integer> missingDependencies = new HashMap<>();
+        Map<String, List<InitializerMethod>> dependents = new HashMap<>();
+        for (InitializerMethod method : methods) {
+            for (String dependency : method.dependsOn()) {
+                if (!byName.containsKey(dependency)) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "@Initialize method " + method.name()
+                            + " depends on unknown method " + dependency, method.element());
+                    valid = false;
+                    continue;
+                }
+                missingDependencies.merge(method.name(), 1, Integer::sum);
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(method);
+            }
+        }
+        if (!valid) {
+            return null;
+        }
+
+        PriorityQueue<InitializerMethod> ready = new PriorityQueue<>(
+                Comparator.comparingInt(InitializerMethod::priority).reversed()
+                        .thenComparing(InitializerMethod::name));
+        for (InitializerMethod method : methods) {
+            if (!missingDependencies.containsKey(method.name())) {
+                ready.add(method);
+            }
+        }
+
+        List<InitializerMethod> ordered = new ArrayList<>(methods.size());
+        while (!ready.isEmpty()) {
+            InitializerMethod method = ready.poll();
+            ordered.add(method);
+            for (InitializerMethod dependent : dependents.getOrDefault(method.name(), List.of())) {
+                if (missingDependencies.merge(dependent.name(), -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (ordered.size() < methods.size()) {
+            for (InitializerMethod method : methods) {
+                if (!ordered.contains(method)) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "@Initialize method " + method.name()
+                            + " is part of a dependency cycle", method.element());
+                }
+            }
+            return null;
+        }
+        return ordered;
+    }
+
+    /**
+     * Checks that the class and all classes enclosing it are public and that
+     * nested classes are static, so the generated registry can reference it.
+     */
+    private static boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            Set<Modifier> modifiers = typeElement.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            Element enclosing = typeElement.getEnclosingElement();
+            if (enclosing instanceof TypeElement && !modifiers.contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return true;
+    }
+
+    private void writeRegistry() {
+        List<InitializerMethod> ordered = orderByDependencies();
+        if (ordered == null) {
+            return;
+        }
+
+        Elements elements = processingEnv.getElementUtils();
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(REGISTRY_PACKAGE).append(";\n\n")
+                .append("import java.util.List;\n\n")
+                .append("/**\n")
+                .append(" * All {@link Initialize} methods of the mod, each listed after its dependencies.\n")
+                .append(" * Generated by the initialize-processor; do not edit.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"")
+                .append(InitializeProcessor.class.getName()).append("\")\n")
+                .append("final class ").append(REGISTRY_CLASS).append(" {\n")
+                .append("    static final List<InitializerEntry> ENTRIES = List.of(");
+        for (int i = 0; i < ordered.size(); i++) {
+            InitializerMethod method = ordered.get(i);
+            source.append(i == 0 ? "\n" : ",\n")
+                    .append("            new InitializerEntry(")
+                    .append(elements.getConstantExpression(method.name())).append(", ")
+                    .append(method.priority()).append(", ")
+                    .append(elements.getConstantExpression(method.description())).append(", ")
+                    .append(method.dependsOn().stream()
+                            .map(elements::getConstantExpression)
+                            .collect(Collectors.joining(", ", "List.of(", ")"))).append(", ")
+                    .append(method.ownerName()).append("::").append(method.methodName()).append(")");
+        }
+        source.append(");\n\n")
+                .append("    private ").append(REGISTRY_CLASS).append("() {\n")
+                .append("    }\n")
+                .append("}\n");
+
+        Filer filer = processingEnv.getFiler();
+        try {
+            JavaFileObject file = filer.createSourceFile(REGISTRY_PACKAGE + "." + REGISTRY_CLASS,
+                    originatingElements.toArray(new Element[0]));
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + REGISTRY_CLASS + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * An annotated method as it appears in the generated registry.
+     */
+    private record InitializerMethod(String name, String ownerName, String methodName, int priority,
+            String description, List<String> dependsOn, ExecutableElement element) {
+    }
+}
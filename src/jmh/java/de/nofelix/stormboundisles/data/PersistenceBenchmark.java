@@ -0,0 +1,104 @@
+package de.nofelix.stormboundisles.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures a full synchronous save and load of the mod's data through
+ * {@link DataManager#saveAll(Path)} and {@link DataManager#load(Path)}.
+ * <p>
+ * The data set resembles a running game: every island has a polygon zone
+ * with {@code zoneVertices} points and a team of eight players. Files are
+ * written to a temporary run directory that is deleted afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistenceBenchmark {
+    private static final int MEMBERS_PER_TEAM = 8;
+    private static final int ISLAND_SPACING = 1000;
+
+    @Param({ "8", "64" })
+    public int islandCount;
+
+    @Param({ "4", "200" })
+    public int zoneVertices;
+
+    private Path runDir;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        runDir = Files.createTempDirectory("sbi-bench");
+        DataManager.clearTeams();
+        DataManager.clearIslands();
+
+        Random random = new Random(42);
+        IslandType[] types = IslandType.values();
+        for (int i = 0; i < islandCount; i++) {
+            String islandId = "island_%02d".formatted(i);
+            int offsetX = i * ISLAND_SPACING;
+            Island island = new Island(islandId, types[i % types.length]);
+            island.setZone(new Zone(ZoneContainsBenchmark.createJaggedCircle(zoneVertices).stream()
+                    .map(pos -> pos.add(offsetX, 0, 0))
+                    .toList()));
+            island.setSpawnPoint(offsetX, 64, 0);
+
+            Team team = new Team("team_" + i);
+            for (int j = 0; j < MEMBERS_PER_TEAM; j++) {
+                team.addMember(new UUID(random.nextLong(), random.nextLong()));
+            }
+            team.setIslandId(islandId);
+            team.setPoints(random.nextInt(1000));
+            island.setTeamName(team.getName());
+
+            DataManager.putIsland(island);
+            DataManager.putTeam(team);
+        }
+        DataManager.saveAll(runDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        DataManager.clearTeams();
+        DataManager.clearIslands();
+        try (Stream<Path> files = Files.walk(runDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void save() {
+        DataManager.saveAll(runDir);
+    }
+
+    @Benchmark
+    public int load() {
+        DataManager.load(runDir);
+        return DataManager.getIslands().size();
+    }
+}
@@ -0,0 +1,107 @@
+package de.nofelix.stormboundisles.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving a player to their team through
+ * {@link DataManager#getTeamOf(UUID)} against the previous scan over all
+ * teams, and iterating {@link Team#getMembers()}.
+ * <p>
+ * One in eight queried players is not on any team, which is the worst case
+ * for the scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeamLookupBenchmark {
+    private static final int QUERY_COUNT = 1024;
+    private static final int MEMBERS_PER_TEAM = 8;
+
+    @Param({ "4", "32" })
+    public int teamCount;
+
+    private Team[] teams;
+    private UUID[] queries;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        DataManager.clearTeams();
+        Random random = new Random(42);
+        teams = new Team[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            Team team = new Team("team_" + i);
+            for (int j = 0; j < MEMBERS_PER_TEAM; j++) {
+                team.addMember(new UUID(random.nextLong(), random.nextLong()));
+            }
+            DataManager.putTeam(team);
+            teams[i] = team;
+        }
+
+        queries = new UUID[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            if (i % 8 == 7) {
+                queries[i] = new UUID(random.nextLong(), random.nextLong());
+            } else {
+                Team team = teams[random.nextInt(teamCount)];
+                queries[i] = team.getMembers().stream().skip(random.nextInt(MEMBERS_PER_TEAM)).findFirst()
+                        .orElseThrow();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        DataManager.clearTeams();
+    }
+
+    @Benchmark
+    public Team getTeamOf() {
+        return DataManager.getTeamOf(nextQuery());
+    }
+
+    @Benchmark
+    public Team scanTeams() {
+        UUID player = nextQuery();
+        for (Team team : DataManager.getTeams().values()) {
+            if (team.isMember(player)) {
+                return team;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public int iterateMembers() {
+        Team team = teams[cursor++ & (teamCount - 1)];
+        int hash = 0;
+        for (UUID member : team.getMembers()) {
+            hash += member.hashCode();
+        }
+        return hash;
+    }
+
+    private UUID nextQuery() {
+        UUID player = queries[cursor];
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return player;
+    }
+}
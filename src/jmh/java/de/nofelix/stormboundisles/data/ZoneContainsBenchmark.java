@@ -0,0 +1,141 @@
+package de.nofelix.stormboundisles.data;
+
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Zone#contains(BlockPos)} against the previous list-based
+ * implementation, which is kept here verbatim as the baseline.
+ * <p>
+ * Query positions are spread over the polygon's bounding box plus a margin, so
+ * both the inside/outside paths and the bounding-box early-out are exercised.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneContainsBenchmark {
+    private static final int QUERY_COUNT = 1024;
+    private static final int RADIUS = 200;
+    private static final int MARGIN = 64;
+
+    @Param({ "4", "500" })
+    public int vertices;
+
+    private Zone zone;
+    private List<BlockPos> points;
+    private BlockPos[] queries;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        points = vertices == 4
+                ? Zone.createRectangle(new BlockPos(-RADIUS, 64, -RADIUS), new BlockPos(RADIUS, 64, RADIUS)).getPoints()
+                : createJaggedCircle(vertices);
+        zone = new Zone(points);
+
+        Random random = new Random(42);
+        queries = new BlockPos[QUERY_COUNT];
+        int span = 2 * (RADIUS + MARGIN);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = new BlockPos(random.nextInt(span) - RADIUS - MARGIN, 64,
+                    random.nextInt(span) - RADIUS - MARGIN);
+        }
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return zone.contains(nextQuery());
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        return LegacyZone.contains(points, nextQuery());
+    }
+
+    private BlockPos nextQuery() {
+        BlockPos pos = queries[cursor];
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return pos;
+    }
+
+    /**
+     * Builds a non-convex polygon by jittering the radius of points on a circle.
+     */
+    static List<BlockPos> createJaggedCircle(int vertexCount) {
+        Random random = new Random(7);
+        List<BlockPos> result = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            double angle = 2 * Math.PI * i / vertexCount;
+            double radius = RADIUS * (0.75 + 0.25 * random.nextDouble());
+            result.add(new BlockPos((int) Math.round(Math.cos(angle) * radius), 64,
+                    (int) Math.round(Math.sin(angle) * radius)));
+        }
+        return result;
+    }
+
+    /**
+     * The edge-check then ray-casting implementation that Zone used before its
+     * geometry was precompiled.
+     */
+    private static final class LegacyZone {
+        private static final double EDGE_TOLERANCE = 0.01;
+        private static final double BLOCK_CENTER_OFFSET = 0.5;
+
+        static boolean contains(List<BlockPos> points, BlockPos pos) {
+            double x = pos.getX() + BLOCK_CENTER_OFFSET;
+            double z = pos.getZ() + BLOCK_CENTER_OFFSET;
+            int n = points.size();
+
+            for (int i = 0; i < n; i++) {
+                BlockPos a = points.get(i);
+                BlockPos b = points.get((i + 1) % n);
+                if (distanceSquared(x, z, a.getX() + BLOCK_CENTER_OFFSET, a.getZ() + BLOCK_CENTER_OFFSET,
+                        b.getX() + BLOCK_CENTER_OFFSET, b.getZ() + BLOCK_CENTER_OFFSET) < EDGE_TOLERANCE) {
+                    return true;
+                }
+            }
+
+            boolean inside = false;
+            for (int i = 0; i < n; i++) {
+                int j = (i + 1) % n;
+                double xi = points.get(i).getX() + BLOCK_CENTER_OFFSET;
+                double zi = points.get(i).getZ() + BLOCK_CENTER_OFFSET;
+                double xj = points.get(j).getX() + BLOCK_CENTER_OFFSET;
+                double zj = points.get(j).getZ() + BLOCK_CENTER_OFFSET;
+                if (((zi > z) != (zj > z)) && (x < (xj - xi) * (z - zi) / (zj - zi) + xi)) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+
+        private static double distanceSquared(double px, double pz, double x1, double z1, double x2, double z2) {
+            double lineLength = (x2 - x1) * (x2 - x1) + (z2 - z1) * (z2 - z1);
+            if (lineLength == 0.0) {
+                return (px - x1) * (px - x1) + (pz - z1) * (pz - z1);
+            }
+            double t = Math.clamp(((px - x1) * (x2 - x1) + (pz - z1) * (z2 - z1)) / lineLength, 0.0, 1.0);
+            double projectionX = x1 + t * (x2 - x1);
+            double projectionZ = z1 + t * (z2 - z1);
+            return (px - projectionX) * (px - projectionX) + (pz - projectionZ) * (pz - projectionZ);
+        }
+    }
+}
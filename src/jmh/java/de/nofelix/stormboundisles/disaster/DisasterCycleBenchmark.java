@@ -0,0 +1,110 @@
+package de.nofelix.stormboundisles.disaster;
+
+import de.nofelix.stormboundisles.tick.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bookkeeping of a disaster's life cycle as done by
+ * {@link DisasterManager}: activating it in the {@link DisasterStateTable},
+ * scheduling its expiry on a {@link TimingWheel} and expiring or cancelling
+ * it again.
+ * <p>
+ * Broadcasting and applying effects need a running server and are left out,
+ * so the numbers are the per-disaster overhead of the state tracking alone.
+ * The wheel is pre-filled to a steady state in which {@code islandCount}
+ * islands each see a disaster roughly every {@code COOLDOWN_TICKS}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DisasterCycleBenchmark {
+    private static final int COOLDOWN_TICKS = 1200;
+    private static final int WHEEL_SLOTS = 1024;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({ "8", "64" })
+    public int islandCount;
+
+    private DisasterStateTable table;
+    private TimingWheel wheel;
+    private String[] islandIds;
+    private DisasterType[] types;
+    private int[] islandQueries;
+    private int cursor;
+    private long tick;
+
+    @Setup
+    public void setup() {
+        table = new DisasterStateTable();
+        wheel = new TimingWheel(WHEEL_SLOTS);
+        islandIds = new String[islandCount];
+        for (int i = 0; i < islandCount; i++) {
+            islandIds[i] = "island_%02d".formatted(i);
+        }
+        types = DisasterType.values();
+
+        Random random = new Random(42);
+        islandQueries = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            islandQueries[i] = random.nextInt(islandCount);
+        }
+
+        // Run one full cooldown so the benchmark starts with expiries pending
+        for (int i = 0; i < COOLDOWN_TICKS; i++) {
+            triggerAndTick();
+        }
+    }
+
+    /**
+     * One game tick with one trigger attempt: the usual case of the
+     * disaster loop, including the expiry of older disasters.
+     */
+    @Benchmark
+    public int triggerAndTick() {
+        int index = cursor;
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        String islandId = islandIds[islandQueries[index]];
+        DisasterType type = types[index % types.length];
+
+        table.activate(islandId, type,
+                active -> wheel.schedule(COOLDOWN_TICKS, () -> table.expire(active)));
+        return wheel.advanceTo(++tick);
+    }
+
+    /**
+     * Triggering a disaster and cancelling it right away, as when an island
+     * is reset while disasters are active.
+     */
+    @Benchmark
+    public int triggerAndCancel() {
+        String islandId = islandIds[0];
+        for (DisasterType type : types) {
+            table.activate(islandId, type,
+                    active -> wheel.schedule(COOLDOWN_TICKS, () -> table.expire(active)));
+        }
+        return table.cancelAll(islandId);
+    }
+
+    @Benchmark
+    public boolean isActive() {
+        int index = cursor;
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return table.isActive(islandIds[islandQueries[index]], types[index % types.length]);
+    }
+}
@@ -16,7 +16,6 @@ import org.slf4j.LoggerFactory;
  */
 public final class StormboundIslesMod implements ModInitializer {
 	public static final String MOD_ID = "stormboundisles";
-	public static final String BASE_PACKAGE = "de.nofelix.stormboundisles";
 
 	public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
 
@@ -28,8 +27,8 @@ public final class StormboundIslesMod implements ModInitializer {
 	public void onInitialize() {
 		LOGGER.info("Stormbound Isles Mod initializing...");
 
-		// Run all initialization methods discovered by the annotation scanner
-		InitializationRegistry.initializeAll(BASE_PACKAGE);
+		// Run all initialization methods collected by the annotation processor
+		InitializationRegistry.initializeAll();
 
 		// Initialize and register commands using the command manager
 		CommandManager commandManager = new CommandManager();
@@ -81,7 +81,8 @@ public class CommandManager {
      * This method is automatically called during mod initialization through
      * the annotation-based initialization system.
      */
-    @Initialize(priority = 1200, description = "Initialize default islands and teams")
+    @Initialize(priority = 1200, description = "Initialize default islands and teams",
+            dependsOn = "DataManager.initialize")
     public static void initIslandsAndTeams() {
         for (IslandType type : IslandType.values()) {
             String id = type.name().toLowerCase();
@@ -103,6 +104,6 @@ public class CommandManager {
             if (team.getIslandId() == null)
                 team.setIslandId(id);
         }
-        DataManager.saveAll();
+        DataManager.markDirty();
     }
 }
\ No newline at end of file
@@ -9,10 +9,14 @@ import de.nofelix.stormboundisles.config.ConfigManager;
 import de.nofelix.stormboundisles.data.DataManager;
 import de.nofelix.stormboundisles.game.GameManager;
 import de.nofelix.stormboundisles.game.GamePhase;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.ScheduledTask;
+import de.nofelix.stormboundisles.tick.TickScheduler;
 import de.nofelix.stormboundisles.util.Constants;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
@@ -25,10 +29,10 @@ import java.util.UUID;
  * <p>
  * This class manages high-level administrative commands that require admin
  * permission level (3).
- * These commands include game lifecycle management (start, stop, phase control)
- * and data reset
- * functionality. The reset command includes a confirmation mechanism to prevent
- * accidental data loss.
+ * These commands include game lifecycle management (start, stop, phase control),
+ * data reset functionality, config reloads, the tick scheduler report and the
+ * metrics report. The reset command includes a confirmation mechanism to
+ * prevent accidental data loss.
  */
 public class AdminCommands implements CommandCategory {
     /** Maps player UUIDs to timestamps for reset command confirmation */
@@ -117,10 +121,84 @@ public class AdminCommands implements CommandCategory {
                     }
                 }));
 
+        // Config reload command
+        adminCommand.then(CommandManager.literal("config")
+                .then(CommandManager.literal("reload")
+                        .executes(ctx -> {
+                            if (!ConfigManager.reload()) {
+                                ctx.getSource().sendError(
+                                        Text.literal("Failed to reload the config, keeping the current one. See the server log."));
+                                return 0;
+                            }
+                            ctx.getSource().sendFeedback(() -> Text.literal("Config reloaded.")
+                                    .formatted(Formatting.GREEN), true);
+                            return 1;
+                        })));
+
+        // Tick scheduler report
+        adminCommand.then(CommandManager.literal("ticks")
+                .executes(ctx -> {
+                    ctx.getSource().sendFeedback(this::formatTickReport, false);
+                    return 1;
+                })
+                .then(CommandManager.literal("reset")
+                        .executes(ctx -> {
+                            TickScheduler.getTasks().forEach(ScheduledTask::resetStats);
+                            ctx.getSource().sendFeedback(() -> Text.literal("Tick task statistics reset.")
+                                    .formatted(Formatting.GREEN), false);
+                            return 1;
+                        })));
+
+        // Metrics report
+        adminCommand.then(CommandManager.literal("metrics")
+                .executes(ctx -> {
+                    ctx.getSource().sendFeedback(this::formatMetricsReport, false);
+                    return 1;
+                })
+                .then(CommandManager.literal("reset")
+                        .executes(ctx -> {
+                            Metrics.reset();
+                            ctx.getSource().sendFeedback(() -> Text.literal("Metrics reset.")
+                                    .formatted(Formatting.GREEN), false);
+                            return 1;
+                        })));
+
         // Add admin category to root command
         rootCommand.then(adminCommand);
     }
 
+    /**
+     * Builds the per-task timing report of the tick scheduler.
+     * 
+     * @return One line per scheduled task with interval, phase and run times
+     */
+    private Text formatTickReport() {
+        MutableText report = Text.literal("Tick tasks:").formatted(Formatting.GOLD);
+        for (ScheduledTask task : TickScheduler.getTasks()) {
+            report.append(Text.literal("\n%s §7every %dt @%d: §favg %.1fµs, max %.1fµs §7(%d runs)".formatted(
+                    task.getName(),
+                    task.getInterval(),
+                    task.getPhase(),
+                    task.getAverageNanos() / 1000.0,
+                    task.getMaxNanos() / 1000.0,
+                    task.getRunCount())).formatted(Formatting.YELLOW));
+        }
+        return report;
+    }
+
+    /**
+     * Builds the report of all counters, gauges and histograms.
+     * 
+     * @return One line per metric, sorted by name
+     */
+    private Text formatMetricsReport() {
+        MutableText report = Text.literal("Metrics:").formatted(Formatting.GOLD);
+        for (String line : Metrics.report()) {
+            report.append(Text.literal("\n" + line).formatted(Formatting.YELLOW));
+        }
+        return report;
+    }
+
     /**
      * Cleans up expired confirmation entries to prevent memory buildup.
      * <p>
@@ -97,7 +97,7 @@ public class IslandCommands implements CommandCategory {
                                                         }
                                                         BlockPos pos = player.getBlockPos();
                                                         isl.setSpawnPoint(pos.getX(), pos.getY(), pos.getZ());
-                                                        DataManager.saveAll();
+                                                        DataManager.markDirty();
                                                         ctx.getSource().sendFeedback(() -> Text
                                                                         .literal("Spawn for island " + isl.getId()
                                                                                         + " set to " + pos)
@@ -240,7 +240,7 @@ public class IslandCommands implements CommandCategory {
 
                                                                 isl.setZone(pb.createRectangle(secondPos));
                                                                 PolygonBuilderManager.removeBuilder(uid);
-                                                                DataManager.saveAll();
+                                                                DataManager.markDirty();
                                                                 ctx.getSource().sendFeedback(() -> Text
                                                                                 .literal("Rectangular zone for island "
                                                                                                 + finalIslandId
@@ -355,7 +355,7 @@ public class IslandCommands implements CommandCategory {
                                                 return 0;
                                         }
                                         isl.setZone(pb.createPolygon());
-                                        DataManager.saveAll();
+                                        DataManager.markDirty();
                                         ctx.getSource().sendFeedback(() -> Text
                                                         .literal("Polygon zone with " + pb.getPointCount()
                                                                         + " points set for island " + pb.getIslandId())
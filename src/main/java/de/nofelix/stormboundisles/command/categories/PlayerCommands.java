@@ -94,11 +94,9 @@ public class PlayerCommands implements CommandCategory {
 
         // Find player's team
         String teamInfo = Constants.NO_TEAM;
-        for (Team team : DataManager.getTeams().values()) {
-            if (team.getMembers().contains(player.getUuid())) {
-                teamInfo = Constants.TEAM_PREFIX + team.getName() + Constants.RESET;
-                break;
-            }
+        Team team = DataManager.getTeamOf(player.getUuid());
+        if (team != null) {
+            teamInfo = Constants.TEAM_PREFIX + team.getName() + Constants.RESET;
         }
 
         sb.append(Constants.TEAM_PREFIX).append(teamInfo).append("\n");
@@ -109,11 +107,9 @@ public class PlayerCommands implements CommandCategory {
 
         // Check what island they're in
         String currentIsland = Constants.NO_ISLAND;
-        for (Island island : DataManager.getIslands().values()) {
-            if (island.getZone() != null && island.getZone().contains(player.getBlockPos())) {
-                currentIsland = Constants.ISLAND_PREFIX + island.getId() + Constants.RESET;
-                break;
-            }
+        Island island = DataManager.islandAt(player.getBlockPos());
+        if (island != null) {
+            currentIsland = Constants.ISLAND_PREFIX + island.getId() + Constants.RESET;
         }
         sb.append(Constants.ISLAND_PREFIX).append(currentIsland);
 
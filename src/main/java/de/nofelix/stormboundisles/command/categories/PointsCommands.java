@@ -9,7 +9,6 @@ import de.nofelix.stormboundisles.command.util.CommandPermissions;
 import de.nofelix.stormboundisles.command.util.CommandSuggestions;
 import de.nofelix.stormboundisles.data.DataManager;
 import de.nofelix.stormboundisles.data.Team;
-import de.nofelix.stormboundisles.game.ScoreboardManager;
 import de.nofelix.stormboundisles.util.Constants;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
@@ -96,8 +95,6 @@ public class PointsCommands implements CommandCategory {
                 int pointChange = isAddition ? amount : -amount; // Negate for removal
 
                 team.addPoints(pointChange);
-                DataManager.saveAll();
-                ScoreboardManager.updateTeamScore(team.getName());
 
                 // Build feedback message
                 final String actionText = isAddition
@@ -94,13 +94,14 @@ public class TeamCommands implements CommandCategory {
                             }
 
                             // Remove player from all teams
-                            for (Team t : DataManager.getTeams().values()) {
-                                t.removeMember(target.getUuid());
+                            Team current;
+                            while ((current = DataManager.getTeamOf(target.getUuid())) != null) {
+                                current.removeMember(target.getUuid());
                             }
 
                             // Add player to specified team
                             team.addMember(target.getUuid());
-                            DataManager.saveAll();
+                            DataManager.markDirty();
                             ScoreboardManager.updateAllTeams(ctx.getSource().getServer());
                             ctx.getSource().sendFeedback(() -> Text.literal("Assigned " + target.getName().getString() +
                                     " to team " + teamName)
@@ -143,11 +144,10 @@ public class TeamCommands implements CommandCategory {
                     boolean wasOnTeam = false;
 
                     // Remove player from all teams
-                    for (Team t : DataManager.getTeams().values()) {
-                        if (t.getMembers().contains(target.getUuid())) {
-                            wasOnTeam = true;
-                            t.removeMember(target.getUuid());
-                        }
+                    Team current;
+                    while ((current = DataManager.getTeamOf(target.getUuid())) != null) {
+                        wasOnTeam = true;
+                        current.removeMember(target.getUuid());
                     }
 
                     if (!wasOnTeam) {
@@ -157,7 +157,7 @@ public class TeamCommands implements CommandCategory {
                         return 0;
                     }
 
-                    DataManager.saveAll();
+                    DataManager.markDirty();
                     ScoreboardManager.updateAllTeams(ctx.getSource().getServer());
                     ctx.getSource().sendFeedback(() -> Text.literal("Removed " + target.getName().getString() +
                             " from all teams.")
@@ -0,0 +1,60 @@
+package de.nofelix.stormboundisles.command.util;
+
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link SuggestionIndex} over a changing set of names that is rebuilt
+ * lazily after it was invalidated.
+ * <p>
+ * The owner calls {@link #invalidate()} whenever the names change (a player
+ * joins, a team is removed, ...). The next suggestion request then rebuilds
+ * the index once; all requests until the next change reuse it. Each index
+ * remembers the invalidation count it was built at, so a change that
+ * happens while the index is being rebuilt is not lost.
+ */
+final class CachedSuggestions {
+    private final AtomicLong invalidations = new AtomicLong();
+    @Nullable
+    private volatile Snapshot snapshot;
+
+    /**
+     * Marks the cached names as outdated.
+     */
+    void invalidate() {
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Suggests the cached names matching the builder's remaining input,
+     * rebuilding the index from the source first if it is outdated.
+     *
+     * @param builder The suggestions builder of the argument
+     * @param source  Supplies the current names; only called on a rebuild
+     * @return The built suggestions
+     */
+    @NotNull
+    CompletableFuture<Suggestions> suggest(@NotNull SuggestionsBuilder builder,
+            @NotNull Supplier<? extends Collection<String>> source) {
+        long version = invalidations.get();
+        Snapshot current = snapshot;
+        if (current == null || current.version() != version) {
+            current = new Snapshot(SuggestionIndex.of(source.get()), version);
+            snapshot = current;
+        }
+        return current.index().suggest(builder);
+    }
+
+    /**
+     * An index together with the invalidation count it reflects.
+     */
+    private record Snapshot(@NotNull SuggestionIndex index, long version) {
+    }
+}
@@ -5,10 +5,10 @@ import de.nofelix.stormboundisles.data.DataManager;
 import de.nofelix.stormboundisles.disaster.DisasterType;
 import de.nofelix.stormboundisles.game.GamePhase;
 import de.nofelix.stormboundisles.init.Initialize;
-import net.minecraft.command.CommandSource;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.server.command.ServerCommandSource;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,15 +21,29 @@ import java.util.stream.Stream;
  * suggestion
  * providers for islands, teams, players, game phases, and disaster types.
  * <p>
+ * Names are kept in sorted {@link SuggestionIndex}es, so each keystroke is
+ * answered by a binary search instead of filtering every name. The indexes of
+ * islands, teams and players are rebuilt lazily after the DataManager reports
+ * a change or a player joins or leaves.
+ * <p>
  * All providers are automatically initialized during mod startup via the
  * {@link Initialize} annotation.
  */
 public class CommandSuggestions {
-        /** Cached list of game phase names for suggestions */
-        private static List<String> GAME_PHASE_NAMES;
+        /** Index of game phase names for suggestions */
+        private static SuggestionIndex GAME_PHASE_NAMES;
+
+        /** Index of disaster type names for suggestions */
+        private static SuggestionIndex DISASTER_TYPE_NAMES;
+
+        /** Cached island IDs, invalidated when islands are added or removed */
+        private static final CachedSuggestions ISLAND_IDS = new CachedSuggestions();
 
-        /** Cached list of disaster type names for suggestions */
-        private static List<String> DISASTER_TYPE_NAMES;
+        /** Cached team names, invalidated when teams are added or removed */
+        private static final CachedSuggestions TEAM_NAMES = new CachedSuggestions();
+
+        /** Cached online player names, invalidated when a player joins or leaves */
+        private static final CachedSuggestions PLAYER_NAMES = new CachedSuggestions();
 
         /** Suggests island IDs from the data manager */
         public static SuggestionProvider<ServerCommandSource> ISLAND_ID_SUGGESTIONS;
@@ -47,38 +61,43 @@ public class CommandSuggestions {
         public static SuggestionProvider<ServerCommandSource> PLAYER_SUGGESTIONS;
 
         /**
-         * Initializes all suggestion providers.
+         * Initializes all suggestion providers and the invalidation of their
+         * caches.
          * <p>
          * This method is automatically called during mod initialization through
          * the annotation-based initialization system.
          */
         @Initialize(priority = 2000, description = "Initialize command suggestion providers")
         public static void initialize() {
-                // Cache enum values to avoid recreating them for each suggestion
-                GAME_PHASE_NAMES = Stream.of(GamePhase.values())
+                // Enum values never change, so their indexes are built once
+                GAME_PHASE_NAMES = SuggestionIndex.of(Stream.of(GamePhase.values())
                                 .map(Enum::name)
-                                .collect(Collectors.toUnmodifiableList());
+                                .collect(Collectors.toUnmodifiableList()));
 
-                DISASTER_TYPE_NAMES = Stream.of(DisasterType.values())
+                DISASTER_TYPE_NAMES = SuggestionIndex.of(Stream.of(DisasterType.values())
                                 .map(Enum::name)
-                                .collect(Collectors.toUnmodifiableList());
+                                .collect(Collectors.toUnmodifiableList()));
+
+                // Invalidate the cached names whenever their source changes
+                DataManager.addCollectionListener(() -> {
+                        ISLAND_IDS.invalidate();
+                        TEAM_NAMES.invalidate();
+                });
+                ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> PLAYER_NAMES.invalidate());
+                ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> PLAYER_NAMES.invalidate());
 
                 // Create suggestion providers
-                ISLAND_ID_SUGGESTIONS = (ctx, builder) -> CommandSource
-                                .suggestMatching(DataManager.getIslands().keySet(), builder);
+                ISLAND_ID_SUGGESTIONS = (ctx, builder) -> ISLAND_IDS
+                                .suggest(builder, () -> DataManager.getIslands().keySet());
 
-                TEAM_NAME_SUGGESTIONS = (ctx, builder) -> CommandSource.suggestMatching(DataManager.getTeams().keySet(),
-                                builder);
+                TEAM_NAME_SUGGESTIONS = (ctx, builder) -> TEAM_NAMES
+                                .suggest(builder, () -> DataManager.getTeams().keySet());
 
-                DISASTER_TYPE_SUGGESTIONS = (ctx, builder) -> CommandSource.suggestMatching(DISASTER_TYPE_NAMES,
-                                builder);
+                DISASTER_TYPE_SUGGESTIONS = (ctx, builder) -> DISASTER_TYPE_NAMES.suggest(builder);
 
-                GAME_PHASE_SUGGESTIONS = (ctx, builder) -> CommandSource.suggestMatching(GAME_PHASE_NAMES, builder);
+                GAME_PHASE_SUGGESTIONS = (ctx, builder) -> GAME_PHASE_NAMES.suggest(builder);
 
-                PLAYER_SUGGESTIONS = (ctx, builder) -> CommandSource.suggestMatching(
-                                ctx.getSource().getServer().getPlayerManager().getPlayerList()
-                                                .stream().map(p -> p.getName().getString())
-                                                .collect(Collectors.toList()),
-                                builder);
+                PLAYER_SUGGESTIONS = (ctx, builder) -> PLAYER_NAMES.suggest(builder,
+                                () -> Arrays.asList(ctx.getSource().getServer().getPlayerManager().getPlayerNames()));
         }
 }
\ No newline at end of file
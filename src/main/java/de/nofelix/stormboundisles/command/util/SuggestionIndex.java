@@ -0,0 +1,115 @@
+package de.nofelix.stormboundisles.command.util;
+
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An immutable, prefix-searchable set of names for command suggestions.
+ * <p>
+ * Matches the same names as {@code CommandSource.suggestMatching}: a name is
+ * suggested if the typed text is a case-insensitive prefix of the name or of
+ * a part of it that follows a {@code '_'} or {@code '.'}. Every such part is
+ * stored as a lower-case key in one sorted array, so a lookup is a binary
+ * search followed by a scan over the matches only.
+ */
+final class SuggestionIndex {
+    private static final SuggestionIndex EMPTY = new SuggestionIndex(new String[0], new String[0], new String[0]);
+
+    /** All names, sorted; suggested as a whole when nothing was typed yet */
+    private final String[] names;
+    /** Lower-case name parts, sorted */
+    private final String[] keys;
+    /** The name each key belongs to */
+    private final String[] keyNames;
+
+    private SuggestionIndex(String[] names, String[] keys, String[] keyNames) {
+        this.names = names;
+        this.keys = keys;
+        this.keyNames = keyNames;
+    }
+
+    /**
+     * Builds an index over the given names.
+     *
+     * @param names The names to suggest
+     * @return The index
+     */
+    @NotNull
+    static SuggestionIndex of(@NotNull Collection<String> names) {
+        if (names.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<String[]> entries = new ArrayList<>(names.size());
+        for (String name : names) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            entries.add(new String[] { lower, name });
+            for (int i = 0; i < lower.length(); i++) {
+                char c = lower.charAt(i);
+                if (c == '_' || c == '.') {
+                    entries.add(new String[] { lower.substring(i + 1), name });
+                }
+            }
+        }
+        entries.sort(Comparator.comparing((String[] entry) -> entry[0]));
+
+        String[] keys = new String[entries.size()];
+        String[] keyNames = new String[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i)[0];
+            keyNames[i] = entries.get(i)[1];
+        }
+        String[] sortedNames = names.toArray(new String[0]);
+        Arrays.sort(sortedNames);
+        return new SuggestionIndex(sortedNames, keys, keyNames);
+    }
+
+    /**
+     * Adds all names matching the builder's remaining input.
+     *
+     * @param builder The suggestions builder of the argument
+     * @return The built suggestions
+     */
+    @NotNull
+    CompletableFuture<Suggestions> suggest(@NotNull SuggestionsBuilder builder) {
+        String prefix = builder.getRemainingLowerCase();
+        if (prefix.isEmpty()) {
+            for (String name : names) {
+                builder.suggest(name);
+            }
+            return builder.buildFuture();
+        }
+
+        // Brigadier drops the duplicates of names matching through several parts
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            builder.suggest(keyNames[i]);
+        }
+        return builder.buildFuture();
+    }
+
+    /**
+     * Finds the first key that is not less than the given prefix.
+     */
+    private int lowerBound(@NotNull String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -4,14 +4,24 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.handler.BuffSchedule;
 import de.nofelix.stormboundisles.init.Initialize;
+import de.nofelix.stormboundisles.tick.TickScheduler;
+import de.nofelix.stormboundisles.tick.TickStage;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.loader.api.FabricLoader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 /**
  * Manages loading, accessing, and saving the mod's configuration settings.
@@ -23,6 +33,20 @@ import java.io.IOException;
  * The configuration system provides automatic validation and correction of
  * invalid values, ensuring the mod remains stable even with corrupted configs.
  * 
+ * Every load produces an immutable {@link ConfigSnapshot} that is published
+ * through a single volatile field, so getters are one field read and never
+ * see a half-applied reload. Until the file is loaded, the snapshot holds the
+ * default values, which keeps the getters usable without a running game
+ * (e.g. in benchmarks).
+ * 
+ * While the server runs, the config file is watched for changes. A changed
+ * file is parsed and validated on the watcher thread and published on the
+ * next tick, by a task in the {@link TickStage#CONFIG} stage, so all periodic
+ * tasks of that tick see the new values; `/sbi admin config reload` does the
+ * same on demand. A file that fails to parse keeps the current configuration.
+ * Listeners registered through {@link #addChangeListener} are notified on the
+ * server thread whenever a published snapshot differs from the previous one.
+ * 
  * Example usage:
  * ```java
  * int buildPhase = ConfigManager.getGameBuildPhaseTicks();
@@ -40,20 +64,32 @@ public final class ConfigManager {
         static final int BUILD_PHASE_TICKS = 20 * 60 * 60 * 24 * 7; // 1 week
         static final int PVP_PHASE_TICKS = 20 * 60 * 60 * 24 * 7; // 1 week
         static final int COUNTDOWN_DURATION_TICKS = 20 * 10; // 10 seconds
-        static final int BOUNDARY_CHECK_INTERVAL = 10;
+        static final float BOSS_BAR_PROGRESS_QUANTUM = 0.01F; // 1%
+        static final int TELEPORT_BATCH_SIZE = 10;
+        static final int BOUNDARY_CHECK_INTERVAL = 100; // 5 seconds, leaving an island is checked at once
         static final int DEATH_PENALTY = 10;
         static final long BOUNDARY_WARNING_COOLDOWN_MS = 3000L;
         static final long RESET_CONFIRMATION_TIMEOUT_MS = 10000L;
         static final int BUFF_UPDATE_INTERVAL = 60;
-        static final int BUFF_DURATION_TICKS = 80;
+        static final int BUFF_DURATION_TICKS = 20 * 30; // 30 seconds, re-sent about every eighth check
         static final int DISASTER_INTERVAL_TICKS = 20 * 60 * 5; // 5 minutes
         static final int DISASTER_EFFECT_DURATION_TICKS = 100;
         static final int DISASTER_COOLDOWN_TICKS = 100;
         static final float METEOR_DAMAGE = 8.0F;
         static final int BLIZZARD_FREEZE_TICKS = 200;
+        static final int SAVE_DELAY_TICKS = 40; // 2 seconds
+        static final int JOURNAL_COMPACTION_TICKS = 20 * 60 * 5; // 5 minutes
+        static final int METRICS_DUMP_INTERVAL_TICKS = 20 * 60 * 5; // 5 minutes
     }
     
-    private static Config config;
+    private static volatile ConfigSnapshot config = new Config().toSnapshot();
+
+    // Snapshot parsed by the file watcher, waiting to be published on the server thread
+    private static final AtomicReference<ConfigSnapshot> pendingReload = new AtomicReference<>();
+    private static final List<BiConsumer<ConfigSnapshot, ConfigSnapshot>> changeListeners =
+            new CopyOnWriteArrayList<>();
+    @Nullable
+    private static ConfigWatcher watcher;
 
     private ConfigManager() {
     }
@@ -63,13 +99,11 @@ public final class ConfigManager {
      * Loads the configuration from the JSON file.
      * If the file is missing or corrupted, it creates a default configuration
      * file and uses the default values.
+     * Also sets up watching the file for changes while the server runs.
      */
     @Initialize(priority = 2500)
     public static void loadConfig() {
-        File configFile = FabricLoader.getInstance()
-                .getConfigDir()
-                .resolve(CONFIG_FILENAME)
-                .toFile();
+        File configFile = getConfigFile();
 
         if (!configFile.exists()) {
             createDefaultConfig(configFile);
@@ -78,13 +112,70 @@ public final class ConfigManager {
         }
 
         logConfigValues();
+
+        watcher = new ConfigWatcher(configFile.toPath(), ConfigManager::onFileChanged);
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> watcher.start());
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> watcher.stop());
+        TickScheduler.everyTick("config-reload", TickStage.CONFIG, server -> publishPendingReload());
+    }
+
+    // Public API methods
+
+    /**
+     * Re-reads the config file and publishes it if it is valid. Listeners
+     * are notified on the calling thread, so call this on the server thread.
+     *
+     * @return true if the file was read, false if the current configuration
+     *         was kept because the file could not be read
+     */
+    public static boolean reload() {
+        ConfigSnapshot next = readForReload();
+        if (next == null) {
+            return false;
+        }
+        pendingReload.set(null); // Superseded by this read
+        if (publish(next)) {
+            logReload();
+        }
+        return true;
+    }
+
+    /**
+     * Registers a listener for configuration changes. It receives the
+     * previous and the new snapshot, on the server thread (or the
+     * initialization thread for the initial load), and only when at least
+     * one value changed.
+     *
+     * @param listener The listener to add
+     */
+    public static void addChangeListener(@NotNull BiConsumer<ConfigSnapshot, ConfigSnapshot> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Gets the current configuration as a whole, e.g. to read several values
+     * that must belong to the same version of the file.
+     *
+     * @return The current snapshot
+     */
+    @NotNull
+    public static ConfigSnapshot getSnapshot() {
+        return config;
     }
 
     // Private helper methods
+    private static File getConfigFile() {
+        return FabricLoader.getInstance()
+                .getConfigDir()
+                .resolve(CONFIG_FILENAME)
+                .toFile();
+    }
+
     private static void createDefaultConfig(File configFile) {
-        config = new Config();
+        Config defaults = new Config();
+        publish(defaults.toSnapshot());
         try (FileWriter writer = new FileWriter(configFile)) {
-            GSON.toJson(config, writer);
+            GSON.toJson(defaults, writer);
             LOGGER.info("Created default config file: {}", CONFIG_FILENAME);
         } catch (IOException e) {
             LOGGER.error("Failed to write default config to {}", CONFIG_FILENAME, e);
@@ -92,29 +183,33 @@ public final class ConfigManager {
     }
 
     private static void loadExistingConfig(File configFile) {
-        try (FileReader reader = new FileReader(configFile)) {
-            config = GSON.fromJson(reader, Config.class);
+        try {
+            Config loaded = readConfig(configFile);
 
-            if (config == null) {
+            if (loaded == null) {
                 handleInvalidConfig(configFile);
             } else {
-                ensureNestedObjectsNotNull();
-                validateAndCorrectConfig();
+                ensureNestedObjectsNotNull(loaded);
+                if (validateAndCorrectConfig(loaded)) {
+                    saveConfig(loaded);
+                }
+                publish(loaded.toSnapshot());
             }
         } catch (IOException | JsonSyntaxException e) {
             LOGGER.error("Failed to load {} (using defaults): {}",
                     CONFIG_FILENAME, e.getMessage());
-            config = new Config();
+            publish(new Config().toSnapshot());
         }
     }
 
     private static void handleInvalidConfig(File configFile) {
         LOGGER.warn("Config file {} was empty or invalid. Creating default config.",
                 CONFIG_FILENAME);
-        config = new Config();
+        Config defaults = new Config();
+        publish(defaults.toSnapshot());
 
         try (FileWriter writer = new FileWriter(configFile)) {
-            GSON.toJson(config, writer);
+            GSON.toJson(defaults, writer);
             LOGGER.info("Overwrote invalid config file {} with defaults.", CONFIG_FILENAME);
         } catch (IOException e) {
             LOGGER.error("Failed to overwrite invalid config file {} with defaults.",
@@ -122,7 +217,84 @@ public final class ConfigManager {
         }
     }
 
-    private static void ensureNestedObjectsNotNull() {
+    @Nullable
+    private static Config readConfig(File configFile) throws IOException {
+        try (FileReader reader = new FileReader(configFile)) {
+            return GSON.fromJson(reader, Config.class);
+        }
+    }
+
+    /**
+     * Reads and validates the config file for a reload. Unlike the initial
+     * load, the file is never rewritten, since an admin may be editing it.
+     *
+     * @return The new snapshot, or null if the file could not be read
+     */
+    @Nullable
+    private static ConfigSnapshot readForReload() {
+        try {
+            Config loaded = readConfig(getConfigFile());
+            if (loaded == null) {
+                LOGGER.warn("Config file {} is empty, keeping the current configuration", CONFIG_FILENAME);
+                return null;
+            }
+            ensureNestedObjectsNotNull(loaded);
+            validateAndCorrectConfig(loaded);
+            return loaded.toSnapshot();
+        } catch (IOException | JsonSyntaxException e) {
+            LOGGER.error("Failed to reload {} (keeping the current configuration): {}",
+                    CONFIG_FILENAME, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Called on the watcher thread when the file changed. Parsing happens
+     * right away; publishing waits for the next tick.
+     */
+    private static void onFileChanged() {
+        ConfigSnapshot next = readForReload();
+        if (next != null) {
+            pendingReload.set(next);
+        }
+    }
+
+    private static void publishPendingReload() {
+        ConfigSnapshot next = pendingReload.getAndSet(null);
+        if (next != null && publish(next)) {
+            logReload();
+        }
+    }
+
+    private static void logReload() {
+        LOGGER.info("Configuration reloaded from {}", CONFIG_FILENAME);
+        logConfigValues();
+    }
+
+    /**
+     * Makes a snapshot the current configuration and notifies the listeners
+     * if any value changed.
+     *
+     * @return true if any value changed
+     */
+    private static boolean publish(@NotNull ConfigSnapshot next) {
+        ConfigSnapshot previous = config;
+        config = next;
+        if (previous.equals(next)) {
+            return false;
+        }
+
+        for (BiConsumer<ConfigSnapshot, ConfigSnapshot> listener : changeListeners) {
+            try {
+                listener.accept(previous, next);
+            } catch (RuntimeException e) {
+                LOGGER.error("Config change listener failed", e);
+            }
+        }
+        return true;
+    }
+
+    private static void ensureNestedObjectsNotNull(Config config) {
         boolean configRepaired = false;
 
         if (config.game == null) {
@@ -141,6 +313,14 @@ public final class ConfigManager {
             config.disaster = new Config.Disaster();
             configRepaired = true;
         }
+        if (config.data == null) {
+            config.data = new Config.Data();
+            configRepaired = true;
+        }
+        if (config.metrics == null) {
+            config.metrics = new Config.Metrics();
+            configRepaired = true;
+        }
 
         if (configRepaired) {
             LOGGER.warn("Some configuration sections were missing and have been restored to defaults");
@@ -148,22 +328,29 @@ public final class ConfigManager {
     }
 
     private static void logConfigValues() {
+        ConfigSnapshot config = ConfigManager.config;
         LOGGER.info("Configuration loaded successfully:");
-        LOGGER.info("  Game: Build phase {}t, PvP phase {}t, Countdown {}t", 
-                config.game.buildPhaseTicks, config.game.pvpPhaseTicks, config.game.countdownDurationTicks);
+        LOGGER.info("  Game: Build phase {}t, PvP phase {}t, Countdown {}t, Boss bar quantum {}, Teleport batch {}", 
+                config.buildPhaseTicks(), config.pvpPhaseTicks(), config.countdownDurationTicks(),
+                config.bossBarProgressQuantum(), config.teleportBatchSize());
         LOGGER.info("  Player: Boundary check {}t, Death penalty {}, Warning cooldown {}ms", 
-                config.player.boundaryCheckInterval, config.player.deathPenalty, config.player.boundaryWarningCooldownMs);
+                config.boundaryCheckInterval(), config.deathPenalty(), config.boundaryWarningCooldownMs());
         LOGGER.info("  Buffs: Update interval {}t, Duration {}t", 
-                config.buff.buffUpdateInterval, config.buff.buffDurationTicks);
+                config.buffUpdateInterval(), config.buffDurationTicks());
         LOGGER.info("  Disasters: Interval {}t, Meteor damage {}, Blizzard freeze {}t", 
-                config.disaster.disasterIntervalTicks, config.disaster.meteorDamage, config.disaster.blizzardFreezeTicks);
+                config.disasterIntervalTicks(), config.meteorDamage(), config.blizzardFreezeTicks());
+        LOGGER.info("  Data: Save delay {}t, Journal compaction {}t",
+                config.saveDelayTicks(), config.journalCompactionTicks());
+        LOGGER.info("  Metrics: Dump interval {}t", config.metricsDumpIntervalTicks());
     }
 
     /**
      * Validates configuration values and corrects any that are out of bounds.
      * Logs warnings for any corrections made.
+     *
+     * @return true if any value was corrected
      */
-    private static void validateAndCorrectConfig() {
+    private static boolean validateAndCorrectConfig(Config config) {
         boolean corrected = false;
         
         // Validate game settings with reasonable bounds
@@ -185,6 +372,18 @@ public final class ConfigManager {
             corrected = true;
         }
         
+        if (!(config.game.bossBarProgressQuantum > 0 && config.game.bossBarProgressQuantum <= 1.0F)) {
+            config.game.bossBarProgressQuantum = Defaults.BOSS_BAR_PROGRESS_QUANTUM;
+            LOGGER.warn("Invalid bossBarProgressQuantum, reset to default: {}", config.game.bossBarProgressQuantum);
+            corrected = true;
+        }
+        
+        if (config.game.teleportBatchSize <= 0 || config.game.teleportBatchSize > 1000) {
+            config.game.teleportBatchSize = Defaults.TELEPORT_BATCH_SIZE;
+            LOGGER.warn("Invalid teleportBatchSize, reset to default: {}", config.game.teleportBatchSize);
+            corrected = true;
+        }
+        
         // Validate player settings with reasonable bounds
         if (config.player.boundaryCheckInterval <= 0 || config.player.boundaryCheckInterval > 20 * 60) { // Max 1 minute
             config.player.boundaryCheckInterval = Defaults.BOUNDARY_CHECK_INTERVAL;
@@ -210,6 +409,14 @@ public final class ConfigManager {
             LOGGER.warn("Invalid buffDurationTicks, reset to default: {}", config.buff.buffDurationTicks);
             corrected = true;
         }
+
+        // Valid, but a buff this short never lasts past the next check, so every check re-sends it
+        int minSavingDuration = 2 * config.buff.buffUpdateInterval + BuffSchedule.REFRESH_MARGIN_TICKS;
+        if (config.buff.buffDurationTicks < minSavingDuration) {
+            LOGGER.warn("buffDurationTicks {} is below {} (twice buffUpdateInterval plus {}), so every buff check "
+                    + "re-sends the effect", config.buff.buffDurationTicks, minSavingDuration,
+                    BuffSchedule.REFRESH_MARGIN_TICKS);
+        }
         
         // Validate disaster settings
         if (config.disaster.disasterIntervalTicks <= 0 || config.disaster.disasterIntervalTicks > 20 * 60 * 60) { // Max 1 hour
@@ -224,19 +431,33 @@ public final class ConfigManager {
             corrected = true;
         }
         
-        if (corrected) {
-            saveConfig();
+        // Validate data settings
+        if (config.data.saveDelayTicks < 0 || config.data.saveDelayTicks > 20 * 60) { // Max 1 minute
+            config.data.saveDelayTicks = Defaults.SAVE_DELAY_TICKS;
+            LOGGER.warn("Invalid saveDelayTicks, reset to default: {}", config.data.saveDelayTicks);
+            corrected = true;
+        }
+        if (config.data.journalCompactionTicks < 20 || config.data.journalCompactionTicks > 20 * 60 * 60) { // 1 second to 1 hour
+            config.data.journalCompactionTicks = Defaults.JOURNAL_COMPACTION_TICKS;
+            LOGGER.warn("Invalid journalCompactionTicks, reset to default: {}", config.data.journalCompactionTicks);
+            corrected = true;
+        }
+        
+        // Validate metrics settings
+        if (config.metrics.dumpIntervalTicks < 0 || config.metrics.dumpIntervalTicks > 20 * 60 * 60) { // 0 (off) to 1 hour
+            config.metrics.dumpIntervalTicks = Defaults.METRICS_DUMP_INTERVAL_TICKS;
+            LOGGER.warn("Invalid metrics dumpIntervalTicks, reset to default: {}", config.metrics.dumpIntervalTicks);
+            corrected = true;
         }
+        
+        return corrected;
     }
 
     /**
-     * Saves the current configuration to the JSON file.
+     * Saves the given configuration to the JSON file.
      */
-    private static void saveConfig() {
-        File configFile = FabricLoader.getInstance()
-                .getConfigDir()
-                .resolve(CONFIG_FILENAME)
-                .toFile();
+    private static void saveConfig(Config config) {
+        File configFile = getConfigFile();
         
         try (FileWriter writer = new FileWriter(configFile)) {
             GSON.toJson(config, writer);
@@ -248,62 +469,84 @@ public final class ConfigManager {
 
     // Game settings getters
     public static int getGameBuildPhaseTicks() {
-        return config.game.buildPhaseTicks;
+        return config.buildPhaseTicks();
     }
 
     public static int getGamePvpPhaseTicks() {
-        return config.game.pvpPhaseTicks;
+        return config.pvpPhaseTicks();
     }
 
     public static int getGameCountdownDurationTicks() {
-        return config.game.countdownDurationTicks;
+        return config.countdownDurationTicks();
+    }
+
+    public static float getGameBossBarProgressQuantum() {
+        return config.bossBarProgressQuantum();
+    }
+
+    public static int getGameTeleportBatchSize() {
+        return config.teleportBatchSize();
     }
 
     // Player settings getters
     public static int getPlayerBoundaryCheckInterval() {
-        return config.player.boundaryCheckInterval;
+        return config.boundaryCheckInterval();
     }
 
     public static int getPlayerDeathPenalty() {
-        return config.player.deathPenalty;
+        return config.deathPenalty();
     }
 
     public static long getPlayerBoundaryWarningCooldownMs() {
-        return config.player.boundaryWarningCooldownMs;
+        return config.boundaryWarningCooldownMs();
     }
 
     public static long getPlayerResetConfirmationTimeoutMs() {
-        return config.player.resetConfirmationTimeoutMs;
+        return config.resetConfirmationTimeoutMs();
     }
 
     // Buff settings getters
     public static int getBuffUpdateInterval() {
-        return config.buff.buffUpdateInterval;
+        return config.buffUpdateInterval();
     }
 
     public static int getBuffDurationTicks() {
-        return config.buff.buffDurationTicks;
+        return config.buffDurationTicks();
     }
 
     // Disaster settings getters
     public static int getDisasterIntervalTicks() {
-        return config.disaster.disasterIntervalTicks;
+        return config.disasterIntervalTicks();
     }
 
     public static int getDisasterEffectDurationTicks() {
-        return config.disaster.disasterEffectDurationTicks;
+        return config.disasterEffectDurationTicks();
     }
 
     public static int getDisasterCooldownTicks() {
-        return config.disaster.disasterCooldownTicks;
+        return config.disasterCooldownTicks();
     }
 
     public static float getDisasterMeteorDamage() {
-        return config.disaster.meteorDamage;
+        return config.meteorDamage();
     }
 
     public static int getDisasterBlizzardFreezeTicks() {
-        return config.disaster.blizzardFreezeTicks;
+        return config.blizzardFreezeTicks();
+    }
+
+    // Data settings getters
+    public static int getDataSaveDelayTicks() {
+        return config.saveDelayTicks();
+    }
+
+    public static int getDataJournalCompactionTicks() {
+        return config.journalCompactionTicks();
+    }
+
+    // Metrics settings getters
+    public static int getMetricsDumpIntervalTicks() {
+        return config.metricsDumpIntervalTicks();
     }
 
     // Inner classes
@@ -316,6 +559,24 @@ public final class ConfigManager {
         Player player = new Player();
         Buff buff = new Buff();
         Disaster disaster = new Disaster();
+        Data data = new Data();
+        Metrics metrics = new Metrics();
+
+        /**
+         * Copies the values into an immutable snapshot. Sections must not be null.
+         */
+        ConfigSnapshot toSnapshot() {
+            return new ConfigSnapshot(
+                    game.buildPhaseTicks, game.pvpPhaseTicks, game.countdownDurationTicks,
+                    game.bossBarProgressQuantum, game.teleportBatchSize,
+                    player.boundaryCheckInterval, player.deathPenalty,
+                    player.boundaryWarningCooldownMs, player.resetConfirmationTimeoutMs,
+                    buff.buffUpdateInterval, buff.buffDurationTicks,
+                    disaster.disasterIntervalTicks, disaster.disasterEffectDurationTicks,
+                    disaster.disasterCooldownTicks, disaster.meteorDamage, disaster.blizzardFreezeTicks,
+                    data.saveDelayTicks, data.journalCompactionTicks,
+                    metrics.dumpIntervalTicks);
+        }
 
         /**
          * Game-related settings like phase durations and countdowns.
@@ -330,6 +591,16 @@ public final class ConfigManager {
              * Default: 200 ticks (10 seconds).
              */
             int countdownDurationTicks = Defaults.COUNTDOWN_DURATION_TICKS;
+            /**
+             * Smallest change of the phase boss bar's progress that is sent to
+             * players. Default: 0.01 (1%).
+             */
+            float bossBarProgressQuantum = Defaults.BOSS_BAR_PROGRESS_QUANTUM;
+            /**
+             * Players teleported to their islands per tick when the game
+             * starts. Default: 10 players.
+             */
+            int teleportBatchSize = Defaults.TELEPORT_BATCH_SIZE;
         }
 
         /**
@@ -338,7 +609,9 @@ public final class ConfigManager {
         static class Player {
             /**
              * Interval in ticks for checking if players are outside their island
-             * boundaries. Default: 10 ticks.
+             * boundaries. Players leaving an island are checked at once, so this
+             * only catches those who got off it otherwise, e.g. when their
+             * island was assigned or moved. Default: 100 ticks (5 seconds).
              */
             int boundaryCheckInterval = Defaults.BOUNDARY_CHECK_INTERVAL;
             /** Points deducted from a team when a member dies. Default: 10 points. */
@@ -364,7 +637,13 @@ public final class ConfigManager {
              * Default: 60 ticks (3 seconds).
              */
             int buffUpdateInterval = Defaults.BUFF_UPDATE_INTERVAL;
-            /** Duration in ticks for island buffs. Default: 80 ticks (4 seconds). */
+            /**
+             * Duration in ticks for island buffs. Buffs are only re-sent when
+             * less than one update interval (plus a second) is left, so below
+             * twice the update interval plus a second every check re-sends
+             * them. Leaving the island removes the buff right away.
+             * Default: 600 ticks (30 seconds).
+             */
             int buffDurationTicks = Defaults.BUFF_DURATION_TICKS;
         }
 
@@ -398,5 +677,36 @@ public final class ConfigManager {
              */
             int blizzardFreezeTicks = Defaults.BLIZZARD_FREEZE_TICKS;
         }
+
+        /**
+         * Settings related to data persistence.
+         */
+        static class Data {
+            /**
+             * Ticks to wait after the first change before writing data to disk;
+             * further changes within this window are written together.
+             * Default: 40 ticks (2 seconds).
+             */
+            int saveDelayTicks = Defaults.SAVE_DELAY_TICKS;
+
+            /**
+             * Ticks between compactions of the score journal into the data
+             * files. Score and membership changes are durable through the
+             * journal in the meantime.
+             * Default: 6000 ticks (5 minutes).
+             */
+            int journalCompactionTicks = Defaults.JOURNAL_COMPACTION_TICKS;
+        }
+
+        /**
+         * Settings related to the metrics report.
+         */
+        static class Metrics {
+            /**
+             * Ticks between metrics dumps to the server log; 0 disables the
+             * dump. Default: 6000 ticks (5 minutes).
+             */
+            int dumpIntervalTicks = Defaults.METRICS_DUMP_INTERVAL_TICKS;
+        }
     }
 }
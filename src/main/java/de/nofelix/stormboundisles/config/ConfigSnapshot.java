@@ -0,0 +1,40 @@
+package de.nofelix.stormboundisles.config;
+
+/**
+ * An immutable, validated set of all configuration values.
+ *
+ * {@link ConfigManager} publishes a new snapshot whenever the config file is
+ * (re)loaded, so a snapshot read once stays consistent even if the file
+ * changes in the meantime. The values are flattened into one record so every
+ * getter of {@link ConfigManager} is a single field read.
+ *
+ * See the config file sections in {@link ConfigManager} for the meaning and
+ * defaults of the individual values.
+ */
+public record ConfigSnapshot(
+        // Game
+        int buildPhaseTicks,
+        int pvpPhaseTicks,
+        int countdownDurationTicks,
+        float bossBarProgressQuantum,
+        int teleportBatchSize,
+        // Player
+        int boundaryCheckInterval,
+        int deathPenalty,
+        long boundaryWarningCooldownMs,
+        long resetConfirmationTimeoutMs,
+        // Buff
+        int buffUpdateInterval,
+        int buffDurationTicks,
+        // Disaster
+        int disasterIntervalTicks,
+        int disasterEffectDurationTicks,
+        int disasterCooldownTicks,
+        float meteorDamage,
+        int blizzardFreezeTicks,
+        // Data
+        int saveDelayTicks,
+        int journalCompactionTicks,
+        // Metrics
+        int metricsDumpIntervalTicks) {
+}
@@ -0,0 +1,125 @@
+package de.nofelix.stormboundisles.config;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Watches a single file with a {@link WatchService} and runs a callback on a
+ * background thread when it was created or modified.
+ *
+ * Editors usually save a file in several steps (truncate, write, rename), so
+ * events are collected for a short debounce period and reported as one
+ * change. The callback runs on the watcher thread and must hand its result
+ * over to the server thread itself.
+ */
+final class ConfigWatcher {
+    private static final Logger LOGGER = StormboundIslesMod.LOGGER;
+    /** Time to wait for further events after the first one. */
+    private static final long DEBOUNCE_MS = 250L;
+
+    @NotNull
+    private final Path file;
+    @NotNull
+    private final Runnable onChange;
+    @Nullable
+    private WatchService watchService;
+
+    ConfigWatcher(@NotNull Path file, @NotNull Runnable onChange) {
+        this.file = file;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching the file. Does nothing if already started; logs and
+     * gives up if the file system cannot be watched.
+     */
+    synchronized void start() {
+        if (watchService != null) {
+            return;
+        }
+        WatchService service;
+        try {
+            service = file.getFileSystem().newWatchService();
+            file.getParent().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            LOGGER.error("Failed to watch {} for changes, use the reload command instead", file, e);
+            return;
+        }
+        watchService = service;
+
+        Thread thread = new Thread(() -> watch(service), "StormboundIsles-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.debug("Watching {} for changes", file);
+    }
+
+    /**
+     * Stops watching the file. The watcher thread ends on its own.
+     */
+    synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close the config file watcher", e);
+        }
+        watchService = null;
+    }
+
+    // Private helper methods
+
+    private void watch(@NotNull WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = drain(key);
+                if (!changed) {
+                    continue;
+                }
+
+                // Fold the remaining events of this save into the same change
+                Thread.sleep(DEBOUNCE_MS);
+                for (WatchKey next = service.poll(); next != null; next = service.poll()) {
+                    drain(next);
+                }
+
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to handle a change of {}", file, e);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            LOGGER.debug("Stopped watching {}", file);
+        }
+    }
+
+    /**
+     * Consumes the events of a key and re-arms it.
+     *
+     * @return true if one of the events concerns the watched file
+     */
+    private boolean drain(@NotNull WatchKey key) {
+        boolean concernsFile = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                concernsFile = true;
+            }
+        }
+        key.reset();
+        return concernsFile;
+    }
+}
@@ -5,10 +5,19 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.config.ConfigManager;
 import de.nofelix.stormboundisles.game.GameManager;
 import de.nofelix.stormboundisles.game.GamePhase;
 import de.nofelix.stormboundisles.init.Initialize;
+import de.nofelix.stormboundisles.jfr.DataLoadEvent;
+import de.nofelix.stormboundisles.jfr.DataSaveEvent;
+import de.nofelix.stormboundisles.metrics.Histogram;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.TickScheduler;
+import de.nofelix.stormboundisles.tick.TickStage;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -19,31 +28,56 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Manages loading and saving persistent game data, including team information,
  * island definitions, and the current game state (phase and progress).
  * 
  * Data is stored in JSON files within the world save directory
- * (`world/stormboundisles`). This class provides thread-safe access to
- * game data and handles automatic persistence operations.
+ * (`world/stormboundisles`), with one file per island and per team. This
+ * class provides thread-safe access to game data and handles automatic
+ * persistence operations.
+ * 
+ * Gameplay code requests saves with {@link #markDirty()}. Requests are
+ * coalesced for a configurable number of ticks, then a snapshot taken on the
+ * server thread is written by a background thread. Only islands and teams
+ * whose version changed since the last save are rewritten. Files are
+ * replaced atomically, and pending writes are flushed synchronously when
+ * the server stops.
+ * 
+ * Team score, membership and island assignment changes are additionally
+ * appended to a journal once per tick, so they are durable without a save.
+ * The journal is compacted into the team files on a configurable schedule
+ * and replayed on load.
+ * 
+ * Score listeners registered with {@link #addScoreListener(Consumer)} are
+ * told about every score change of a registered team, and about teams being
+ * added or removed, so views such as the scoreboard can update on change
+ * instead of polling.
  * 
  * Example usage:
  * ```java
  * Team team = DataManager.getTeam("red");
  * DataManager.putTeam(new Team("blue", players));
- * DataManager.saveAll();
+ * DataManager.markDirty();
  * ```
  */
 public final class DataManager {
 
     // Constants
     private static final String DATA_DIR_NAME = "stormboundisles";
-    private static final String ISLANDS_FILENAME = "islands.json";
-    private static final String TEAMS_FILENAME = "teams.json";
+    private static final String ISLANDS_DIR_NAME = "islands";
+    private static final String TEAMS_DIR_NAME = "teams";
     private static final String GAME_STATE_FILENAME = "game_state.json";
+    // Single-file formats written by older versions, migrated on load
+    private static final String LEGACY_ISLANDS_FILENAME = "islands.json";
+    private static final String LEGACY_TEAMS_FILENAME = "teams.json";
 
     // Validation field names
     private static final String TEAM_NAME_FIELD = "Team name";
@@ -54,7 +88,7 @@ public final class DataManager {
             .create();
     private static final Logger LOGGER = StormboundIslesMod.LOGGER;
 
-    // Type tokens for JSON deserialization
+    // Type tokens for the legacy single-file formats
     private static final Type TEAM_MAP_TYPE = new TypeToken<Map<String, Team>>() {
     }.getType();
     private static final Type ISLAND_MAP_TYPE = new TypeToken<Map<String, Island>>() {
@@ -63,6 +97,32 @@ public final class DataManager {
     // Data storage - Using ConcurrentHashMap for thread safety
     private static final Map<String, Team> teams = new ConcurrentHashMap<>();
     private static final Map<String, Island> islands = new ConcurrentHashMap<>();
+    private static final IslandIndex islandIndex = new IslandIndex();
+    // Reverse membership index, kept in sync by Team's member mutators
+    private static final Map<UUID, Team> teamsByMember = new ConcurrentHashMap<>();
+    // Notified when a registered team's score changes or a team is added or removed
+    private static final List<Consumer<Team>> scoreListeners = new CopyOnWriteArrayList<>();
+    // Notified when teams or islands are added, removed, cleared or reloaded
+    private static final List<Runnable> collectionListeners = new CopyOnWriteArrayList<>();
+
+    // One file per entity, tracking what was last saved
+    private static final EntityFileStore<Island> islandStore = new EntityFileStore<>(GSON, ISLANDS_DIR_NAME,
+            LEGACY_ISLANDS_FILENAME, Island.class, ISLAND_MAP_TYPE, Island::getId, Island::getVersion, Island::copy);
+    private static final EntityFileStore<Team> teamStore = new EntityFileStore<>(GSON, TEAMS_DIR_NAME,
+            LEGACY_TEAMS_FILENAME, Team.class, TEAM_MAP_TYPE, Team::getName, Team::getVersion, Team::copy);
+    // Game state last handed to the background writer
+    @Nullable
+    private static volatile GameState savedGameState;
+
+    // Coalesces save requests and writes snapshots off the server thread
+    private static final WriteBehindSaver saver = new WriteBehindSaver("StormboundIsles-Saver",
+            DataManager::snapshotForSave);
+    // Durable log of score and membership changes between saves
+    private static final ScoreJournal journal = new ScoreJournal(saver::submit);
+    private static int ticksSinceCompaction = 0;
+
+    private static final Histogram LOAD_TIME = Metrics.histogram("data.load");
+    private static final Histogram SAVE_TIME = Metrics.histogram("data.save");
 
     private DataManager() {
     }
@@ -77,11 +137,44 @@ public final class DataManager {
     public static void initialize() {
         LOGGER.info("Initializing DataManager...");
         loadAll();
+
+        Metrics.gauge("data.teams", teams::size);
+        Metrics.gauge("data.islands", islands::size);
+        TickScheduler.everyTick("data-save", TickStage.FLUSH, server -> onTick());
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+            journal.commit();
+            saver.flush(snapshotForSave());
+        });
         LOGGER.info("DataManager initialized successfully");
     }
 
     // Public API methods
 
+    /**
+     * Registers a listener for team score changes. The listener receives the
+     * team whose points changed, or a team that was added or removed; it can
+     * tell removal apart by checking {@link #getTeam(String)}. Reloading the
+     * teams reports every team from before and after the load. Listeners run
+     * on the thread that made the change and should only record it.
+     *
+     * @param listener The listener to add
+     */
+    public static void addScoreListener(@NotNull Consumer<Team> listener) {
+        scoreListeners.add(listener);
+    }
+
+    /**
+     * Registers a listener for changes to the set of teams or islands: one
+     * was added or removed, or all were cleared or reloaded. Updates of an
+     * existing team or island are not reported. Listeners run on the thread
+     * that made the change and should only record it.
+     *
+     * @param listener The listener to add
+     */
+    public static void addCollectionListener(@NotNull Runnable listener) {
+        collectionListeners.add(listener);
+    }
+
     /**
      * Returns an unmodifiable view of the teams map.
      * Modifications should be done via {@link #putTeam(Team)}.
@@ -130,6 +223,69 @@ public final class DataManager {
         return islands.get(islandId);
     }
 
+    /**
+     * Gets the team a player belongs to.
+     * Backed by a reverse membership index, so this is a single map lookup.
+     *
+     * @param playerUuid The UUID of the player
+     * @return The player's team, or null if the player is not on any team
+     */
+    @Nullable
+    public static Team getTeamOf(@NotNull UUID playerUuid) {
+        return teamsByMember.get(playerUuid);
+    }
+
+    /**
+     * Finds the island whose zone contains the given block column.
+     * Uses the chunk-keyed spatial index, so the cost does not grow with the
+     * number of islands.
+     *
+     * @param x The block X coordinate
+     * @param z The block Z coordinate
+     * @return The island at that column, or null if the column is on no island
+     */
+    @Nullable
+    public static Island islandAt(int x, int z) {
+        return islandIndex.islandAt(x, z);
+    }
+
+    /**
+     * Finds the island whose zone contains the given position.
+     * The Y coordinate is ignored.
+     *
+     * @param pos The position to look up
+     * @return The island at that position, or null if the position is on no island
+     */
+    @Nullable
+    public static Island islandAt(@NotNull BlockPos pos) {
+        return islandIndex.islandAt(pos.getX(), pos.getZ());
+    }
+
+    /**
+     * Finds every island whose zone contains the given position, since zones
+     * may overlap or share a border. The Y coordinate is ignored.
+     *
+     * @param pos The position to look up
+     * @return The containing islands, the one {@link #islandAt} returns
+     *         first; empty if the position is on no island
+     */
+    @NotNull
+    public static List<Island> islandsAt(@NotNull BlockPos pos) {
+        return islandIndex.islandsAt(pos.getX(), pos.getZ());
+    }
+
+    /**
+     * Gets a number that changes whenever the result of {@link #islandAt} or
+     * {@link #islandsAt} may change: an island was added, removed or
+     * reloaded, or its zone was edited. Callers caching lookups re-resolve
+     * once it differs.
+     *
+     * @return The current version of the island index
+     */
+    public static long getIslandIndexVersion() {
+        return islandIndex.getVersion();
+    }
+
     /**
      * Adds or updates a team in the teams collection.
      * This operation is thread-safe.
@@ -140,7 +296,16 @@ public final class DataManager {
     public static void putTeam(@NotNull Team team) {
         validateNotNullOrEmpty(team.getName(), TEAM_NAME_FIELD);
 
-        teams.put(team.getName(), team);
+        Team previous = teams.put(team.getName(), team);
+        if (previous != null && previous != team) {
+            unindexMembers(previous);
+        }
+        indexMembers(team);
+        journal.recordTeamRegistered(team);
+        notifyScoreListeners(team);
+        if (previous == null) {
+            notifyCollectionListeners();
+        }
         LOGGER.debug("Added/updated team: {}", team.getName());
     }
 
@@ -154,7 +319,11 @@ public final class DataManager {
     public static void putIsland(@NotNull Island island) {
         validateNotNullOrEmpty(island.getId(), ISLAND_ID_FIELD);
 
-        islands.put(island.getId(), island);
+        Island previous = islands.put(island.getId(), island);
+        islandIndex.put(island);
+        if (previous == null) {
+            notifyCollectionListeners();
+        }
         LOGGER.debug("Added/updated island: {}", island.getId());
     }
 
@@ -170,6 +339,10 @@ public final class DataManager {
         validateNotNullOrEmpty(teamName, TEAM_NAME_FIELD);
         Team removed = teams.remove(teamName);
         if (removed != null) {
+            unindexMembers(removed);
+            journal.recordTeamRemoved(teamName);
+            notifyScoreListeners(removed);
+            notifyCollectionListeners();
             LOGGER.debug("Removed team: {}", teamName);
         }
         return removed;
@@ -186,7 +359,9 @@ public final class DataManager {
     public static Island removeIsland(@NotNull String islandId) {
         validateNotNullOrEmpty(islandId, ISLAND_ID_FIELD);
         Island removed = islands.remove(islandId);
+        islandIndex.remove(islandId);
         if (removed != null) {
+            notifyCollectionListeners();
             LOGGER.debug("Removed island: {}", islandId);
         }
         return removed;
@@ -199,7 +374,12 @@ public final class DataManager {
      */
     public static void clearTeams() {
         int count = teams.size();
+        List<Team> removed = List.copyOf(teams.values());
+        teams.keySet().forEach(journal::recordTeamRemoved);
         teams.clear();
+        teamsByMember.clear();
+        removed.forEach(DataManager::notifyScoreListeners);
+        notifyCollectionListeners();
         LOGGER.info("Cleared {} teams from memory", count);
     }
 
@@ -211,9 +391,90 @@ public final class DataManager {
     public static void clearIslands() {
         int count = islands.size();
         islands.clear();
+        islandIndex.clear();
+        notifyCollectionListeners();
         LOGGER.info("Cleared {} islands from memory", count);
     }
 
+    /**
+     * Re-indexes an island after its zone changed.
+     * Called by {@link Island#setZone(Zone)}; islands not registered with the
+     * DataManager are ignored.
+     *
+     * @param island The island whose geometry changed
+     */
+    static void onZoneChanged(@NotNull Island island) {
+        if (islands.get(island.getId()) == island) {
+            islandIndex.put(island);
+        }
+    }
+
+    /**
+     * Records a new team member in the membership index.
+     * Called by {@link Team#addMember(UUID)}; teams not registered with the
+     * DataManager are ignored.
+     *
+     * @param team       The team the player joined
+     * @param playerUuid The UUID of the player
+     */
+    static void onMemberAdded(@NotNull Team team, @NotNull UUID playerUuid) {
+        if (teams.get(team.getName()) == team) {
+            teamsByMember.put(playerUuid, team);
+            journal.recordMemberAdded(team.getName(), playerUuid);
+        }
+    }
+
+    /**
+     * Drops a former team member from the membership index.
+     * Called by {@link Team#removeMember(UUID)} and {@link Team#clearMembers()}.
+     * If the player is still listed on another registered team, the index
+     * falls back to that team.
+     *
+     * @param team       The team the player left
+     * @param playerUuid The UUID of the player
+     */
+    static void onMemberRemoved(@NotNull Team team, @NotNull UUID playerUuid) {
+        if (teams.get(team.getName()) == team) {
+            journal.recordMemberRemoved(team.getName(), playerUuid);
+        }
+        if (teamsByMember.remove(playerUuid, team)) {
+            for (Team other : teams.values()) {
+                if (other.isMember(playerUuid)) {
+                    teamsByMember.put(playerUuid, other);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Journals a team's new score and notifies the score listeners.
+     * Called by the point mutators of {@link Team}; teams not registered with
+     * the DataManager are ignored.
+     *
+     * @param team The team whose points changed
+     */
+    static void onPointsChanged(@NotNull Team team) {
+        if (teams.get(team.getName()) == team) {
+            journal.recordPoints(team.getName(), team.getPoints());
+            notifyScoreListeners(team);
+        }
+    }
+
+    /**
+     * Journals a team's new island assignment.
+     * Called by {@link Team#setIslandId(String)} and
+     * {@link Team#clearIslandAssignment()}; teams not registered with the
+     * DataManager are ignored.
+     *
+     * @param team The team whose island assignment changed
+     */
+    static void onIslandAssigned(@NotNull Team team) {
+        if (teams.get(team.getName()) == team) {
+            journal.recordIslandAssignment(team.getName(), team.getIslandId());
+        }
+    }
+
     // Data persistence methods
 
     /**
@@ -234,6 +495,9 @@ public final class DataManager {
      */
     public static void load(@NotNull Path runDir) {
         LOGGER.info("Loading Stormbound Isles data from: {}", runDir);
+        long start = System.nanoTime();
+        DataLoadEvent event = new DataLoadEvent();
+        event.begin();
 
         try {
             Path dataDir = ensureDataDirectory(runDir);
@@ -245,17 +509,39 @@ public final class DataManager {
             LOGGER.info("Successfully loaded data - Teams: {}, Islands: {}",
                     teams.size(), islands.size());
 
+            if (islandStore.hasLegacyFile(dataDir) || teamStore.hasLegacyFile(dataDir)) {
+                LOGGER.info("Legacy data files found, scheduling migration to per-entity files");
+                saver.markDirty();
+            }
+
         } catch (IOException e) {
             LOGGER.error("Fatal error accessing data directory '{}'. Data loading aborted.",
                     DATA_DIR_NAME, e);
         } catch (Exception e) {
             LOGGER.error("Unexpected error during data loading", e);
+        } finally {
+            LOAD_TIME.record(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.set(islands.size(), teams.size());
+                event.commit();
+            }
         }
     }
 
+    /**
+     * Requests that all data be saved.
+     * Requests made within the configured save delay are coalesced into a
+     * single write, which runs on a background thread. Must be called on the
+     * server thread.
+     */
+    public static void markDirty() {
+        saver.markDirty();
+    }
+
     /**
      * Saves all data to the default directory structure.
      * Uses the game directory provided by FabricLoader.
+     * Writes synchronously; gameplay code should prefer {@link #markDirty()}.
      */
     public static void saveAll() {
         Path runDir = FabricLoader.getInstance().getGameDir();
@@ -269,6 +555,9 @@ public final class DataManager {
      */
     public static void saveAll(@NotNull Path runDir) {
         LOGGER.info("Saving all Stormbound Isles data to: {}", runDir);
+        long start = System.nanoTime();
+        DataSaveEvent event = new DataSaveEvent();
+        event.begin();
 
         try {
             Path dataDir = ensureDataDirectory(runDir);
@@ -284,6 +573,12 @@ public final class DataManager {
                     DATA_DIR_NAME, e);
         } catch (Exception e) {
             LOGGER.error("Unexpected error during data saving", e);
+        } finally {
+            SAVE_TIME.record(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.set(false, islands.size(), teams.size());
+                event.commit();
+            }
         }
     }
 
@@ -328,6 +623,23 @@ public final class DataManager {
 
     // Private helper methods
 
+    /**
+     * Commits the journal, schedules compactions and advances the saver.
+     * Runs on every server tick.
+     */
+    private static void onTick() {
+        journal.commit();
+
+        if (++ticksSinceCompaction >= ConfigManager.getDataJournalCompactionTicks()) {
+            ticksSinceCompaction = 0;
+            if (journal.hasUncompactedEvents()) {
+                saver.markDirty();
+            }
+        }
+
+        saver.tick(ConfigManager.getDataSaveDelayTicks());
+    }
+
     /**
      * Validates that a string is not null or empty.
      *
@@ -341,6 +653,52 @@ public final class DataManager {
         }
     }
 
+    /**
+     * Adds all members of a team to the membership index.
+     */
+    private static void indexMembers(@NotNull Team team) {
+        for (UUID member : team.getMembers()) {
+            teamsByMember.put(member, team);
+        }
+    }
+
+    /**
+     * Removes all members of a team from the membership index.
+     */
+    private static void unindexMembers(@NotNull Team team) {
+        for (UUID member : team.getMembers()) {
+            onMemberRemoved(team, member);
+        }
+    }
+
+    /**
+     * Passes a team to every score listener. A failing listener is logged and
+     * does not affect the others or the change itself.
+     */
+    private static void notifyScoreListeners(@NotNull Team team) {
+        for (Consumer<Team> listener : scoreListeners) {
+            try {
+                listener.accept(team);
+            } catch (RuntimeException e) {
+                LOGGER.error("Score listener failed for team {}", team.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Notifies every collection listener. A failing listener is logged and
+     * does not affect the others or the change itself.
+     */
+    private static void notifyCollectionListeners() {
+        for (Runnable listener : collectionListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Collection listener failed", e);
+            }
+        }
+    }
+
     /**
      * Creates and ensures the existence of the data directory.
      *
@@ -359,73 +717,95 @@ public final class DataManager {
     }
 
     /**
-     * Loads islands data from the JSON file.
-     * Clears current in-memory islands before loading.
+     * Collects the islands, teams and game state changed since the last
+     * snapshot on the calling thread and returns the work that writes them to
+     * disk. Used by the background saver, so later mutations on the server
+     * thread cannot race with serialization.
      *
-     * @param dataDir The data directory containing the islands file
+     * @return The write to run on the saver thread
      */
-    private static void loadIslands(@NotNull Path dataDir) {
-        Path islandsPath = dataDir.resolve(ISLANDS_FILENAME);
-        islands.clear();
-
-        if (!Files.exists(islandsPath)) {
-            LOGGER.info("Islands file {} not found. Starting with empty island data.",
-                    ISLANDS_FILENAME);
-            return;
+    @NotNull
+    private static Runnable snapshotForSave() {
+        long sealedSegment = journal.rotate();
+        EntityFileStore<Island>.Batch islandBatch = islandStore.snapshot(islands);
+        EntityFileStore<Team>.Batch teamBatch = teamStore.snapshot(teams);
+        GameState gameState = new GameState(GameManager.phase, GameManager.getPhaseTicks());
+        boolean gameStateChanged = !gameState.equals(savedGameState);
+        if (gameStateChanged) {
+            savedGameState = gameState;
         }
 
-        try (var reader = Files.newBufferedReader(islandsPath, StandardCharsets.UTF_8)) {
-            Map<String, Island> loadedIslands = GSON.fromJson(reader, ISLAND_MAP_TYPE);
-
-            if (loadedIslands != null) {
-                islands.putAll(loadedIslands);
-                LOGGER.info("Loaded {} islands from {}", islands.size(), ISLANDS_FILENAME);
-            } else {
-                LOGGER.warn("Islands file {} contained null data", ISLANDS_FILENAME);
+        return () -> {
+            long start = System.nanoTime();
+            DataSaveEvent event = new DataSaveEvent();
+            event.begin();
+            try {
+                Path dataDir = ensureDataDirectory(FabricLoader.getInstance().getGameDir());
+                islandBatch.write(dataDir);
+                if (teamBatch.write(dataDir)) {
+                    journal.deleteSegmentsUpTo(sealedSegment);
+                }
+                if (gameStateChanged
+                        && !writeJsonToFile(dataDir.resolve(GAME_STATE_FILENAME), gameState, "game state")) {
+                    savedGameState = null;
+                }
+                LOGGER.debug("Saved {} changed islands and {} changed teams in the background",
+                        islandBatch.changedCount(), teamBatch.changedCount());
+            } catch (IOException e) {
+                LOGGER.error("Fatal error accessing data directory '{}'. Background save aborted.",
+                        DATA_DIR_NAME, e);
+            } finally {
+                SAVE_TIME.record(System.nanoTime() - start);
+                if (event.shouldCommit()) {
+                    event.set(true, islandBatch.changedCount(), teamBatch.changedCount());
+                    event.commit();
+                }
             }
+        };
+    }
 
-        } catch (IOException e) {
-            LOGGER.error("Could not read islands file: {}", islandsPath, e);
-        } catch (JsonParseException e) {
-            LOGGER.error("Invalid JSON format in islands file: {}", islandsPath, e);
+    /**
+     * Loads islands data from the per-island files.
+     * Clears current in-memory islands before loading.
+     *
+     * @param dataDir The data directory containing the islands directory
+     */
+    private static void loadIslands(@NotNull Path dataDir) {
+        islands.clear();
+        islandIndex.clear();
+
+        try {
+            islands.putAll(islandStore.load(dataDir));
+            islands.values().forEach(islandIndex::put);
         } catch (Exception e) {
             LOGGER.error("Unexpected error loading islands", e);
         }
+        notifyCollectionListeners();
     }
 
     /**
-     * Loads teams data from the JSON file.
+     * Loads teams data from the per-team files and replays the journal.
      * Clears current in-memory teams before loading.
      *
-     * @param dataDir The data directory containing the teams file
+     * @param dataDir The data directory containing the teams directory
      */
     private static void loadTeams(@NotNull Path dataDir) {
-        Path teamsPath = dataDir.resolve(TEAMS_FILENAME);
+        List<Team> previous = List.copyOf(teams.values());
         teams.clear();
+        teamsByMember.clear();
 
-        if (!Files.exists(teamsPath)) {
-            LOGGER.info("Teams file {} not found. Starting with empty team data.",
-                    TEAMS_FILENAME);
-            return;
-        }
-
-        try (var reader = Files.newBufferedReader(teamsPath, StandardCharsets.UTF_8)) {
-            Map<String, Team> loadedTeams = GSON.fromJson(reader, TEAM_MAP_TYPE);
-
-            if (loadedTeams != null) {
-                teams.putAll(loadedTeams);
-                LOGGER.info("Loaded {} teams from {}", teams.size(), TEAMS_FILENAME);
-            } else {
-                LOGGER.warn("Teams file {} contained null data", TEAMS_FILENAME);
-            }
-
-        } catch (IOException e) {
-            LOGGER.error("Could not read teams file: {}", teamsPath, e);
-        } catch (JsonParseException e) {
-            LOGGER.error("Invalid JSON format in teams file: {}", teamsPath, e);
+        try {
+            Map<String, Team> loadedTeams = teamStore.load(dataDir);
+            journal.open(dataDir, loadedTeams);
+            teams.putAll(loadedTeams);
+            teams.values().forEach(DataManager::indexMembers);
         } catch (Exception e) {
             LOGGER.error("Unexpected error loading teams", e);
         }
+        // Views showing scores must drop old teams and pick up the loaded points
+        previous.forEach(DataManager::notifyScoreListeners);
+        teams.values().forEach(DataManager::notifyScoreListeners);
+        notifyCollectionListeners();
     }
 
     /**
@@ -448,6 +828,7 @@ public final class DataManager {
 
             if (gameState != null && gameState.phase != null) {
                 GameManager.setPhaseWithoutReset(gameState.phase, gameState.phaseTicks);
+                savedGameState = gameState;
                 LOGGER.info("Loaded game state: Phase={}, Ticks={}",
                         gameState.phase, gameState.phaseTicks);
             } else {
@@ -468,25 +849,21 @@ public final class DataManager {
     }
 
     /**
-     * Saves the current islands data to the JSON file.
+     * Saves every island to its own file and removes files of deleted islands.
      *
-     * @param dataDir The data directory where the islands file should be saved
+     * @param dataDir The data directory where the islands directory should be saved
      */
     private static void saveIslands(@NotNull Path dataDir) {
-        Path islandsPath = dataDir.resolve(ISLANDS_FILENAME);
-        writeJsonToFile(islandsPath, islands, "islands");
-        LOGGER.debug("Saved {} islands to {}", islands.size(), ISLANDS_FILENAME);
+        islandStore.writeAll(dataDir, islands);
     }
 
     /**
-     * Saves the current teams data to the JSON file.
+     * Saves every team to its own file and removes files of deleted teams.
      *
-     * @param dataDir The data directory where the teams file should be saved
+     * @param dataDir The data directory where the teams directory should be saved
      */
     private static void saveTeams(@NotNull Path dataDir) {
-        Path teamsPath = dataDir.resolve(TEAMS_FILENAME);
-        writeJsonToFile(teamsPath, teams, "teams");
-        LOGGER.debug("Saved {} teams to {}", teams.size(), TEAMS_FILENAME);
+        teamStore.writeAll(dataDir, teams);
     }
 
     /**
@@ -505,25 +882,25 @@ public final class DataManager {
 
     /**
      * Utility method to write an object as JSON to a file.
+     * The file is replaced atomically, so a crash mid-write never leaves a
+     * truncated file behind.
      *
      * @param path     The Path where the file should be written
      * @param object   The object to serialize to JSON
      * @param dataType A descriptive name of the data type being saved
+     * @return true if the file was written
      */
-    private static void writeJsonToFile(@NotNull Path path, @Nullable Object object,
+    private static boolean writeJsonToFile(@NotNull Path path, @Nullable Object object,
             @NotNull String dataType) {
         try {
-            String json = GSON.toJson(object);
-
-            try (var writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-                writer.write(json);
-            }
-
+            EntityFileStore.writeJsonAtomically(GSON, path, object);
+            return true;
         } catch (IOException e) {
             LOGGER.error("Failed to write {} data to file: {}", dataType, path, e);
         } catch (Exception e) {
             LOGGER.error("Unexpected error saving {} data to file: {}", dataType, path, e);
         }
+        return false;
     }
 
     // Inner classes
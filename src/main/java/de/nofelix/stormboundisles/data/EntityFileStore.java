@@ -0,0 +1,411 @@
+package de.nofelix.stormboundisles.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.jfr.DataFileEvent;
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Stores one JSON file per entity in a subdirectory of the data directory.
+ *
+ * The store remembers which object and version it last handed to the
+ * background writer for each key. {@link #snapshot(Map)} compares the live
+ * map against that record, so a save only rewrites entities whose version
+ * changed and only deletes files of entities that were removed.
+ *
+ * Data saved by older versions as a single map file is still read. Once every
+ * entity has been written to its own file, the old file is renamed so it is
+ * no longer loaded.
+ *
+ * @param <T> The entity type
+ */
+final class EntityFileStore<T> {
+
+    private static final Logger LOGGER = StormboundIslesMod.LOGGER;
+    private static final String JSON_SUFFIX = ".json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String MIGRATED_SUFFIX = ".migrated";
+    private static final Counter FILES_WRITTEN = Metrics.counter("data.save.files");
+    private static final Counter BYTES_WRITTEN = Metrics.counter("data.save.bytes");
+    // Marks a key whose file still has to be deleted
+    private static final Saved DELETE_PENDING = new Saved(null, -1L);
+
+    @NotNull
+    private final Gson gson;
+    @NotNull
+    private final String dirName;
+    @NotNull
+    private final String legacyFileName;
+    @NotNull
+    private final Class<T> type;
+    @NotNull
+    private final Type legacyMapType;
+    @NotNull
+    private final Function<T, String> keyOf;
+    @NotNull
+    private final ToLongFunction<T> versionOf;
+    @NotNull
+    private final UnaryOperator<T> copier;
+
+    // Key -> object and version last handed to the writer
+    private final Map<String, Saved> saved = new ConcurrentHashMap<>();
+
+    EntityFileStore(@NotNull Gson gson, @NotNull String dirName, @NotNull String legacyFileName,
+            @NotNull Class<T> type, @NotNull Type legacyMapType, @NotNull Function<T, String> keyOf,
+            @NotNull ToLongFunction<T> versionOf, @NotNull UnaryOperator<T> copier) {
+        this.gson = gson;
+        this.dirName = dirName;
+        this.legacyFileName = legacyFileName;
+        this.type = type;
+        this.legacyMapType = legacyMapType;
+        this.keyOf = keyOf;
+        this.versionOf = versionOf;
+        this.copier = copier;
+    }
+
+    /**
+     * Loads all entities from the data directory.
+     * A legacy map file takes precedence, because it is only renamed after
+     * its contents were fully written as individual files.
+     *
+     * @param dataDir The data directory
+     * @return The loaded entities by key, in a mutable map
+     */
+    @NotNull
+    Map<String, T> load(@NotNull Path dataDir) {
+        saved.clear();
+
+        Path legacyPath = dataDir.resolve(legacyFileName);
+        if (Files.exists(legacyPath)) {
+            return loadLegacy(legacyPath);
+        }
+
+        Map<String, T> loaded = new LinkedHashMap<>();
+        Path dir = dataDir.resolve(dirName);
+        if (!Files.isDirectory(dir)) {
+            LOGGER.info("No {} data found. Starting with empty data.", dirName);
+            return loaded;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + JSON_SUFFIX)) {
+            for (Path file : files) {
+                T entity = readEntity(file);
+                if (entity != null) {
+                    String key = keyOf.apply(entity);
+                    loaded.put(key, entity);
+                    saved.put(key, new Saved(entity, versionOf.applyAsLong(entity)));
+                }
+            }
+            LOGGER.info("Loaded {} {} from {}/", loaded.size(), dirName, dirName);
+        } catch (IOException e) {
+            LOGGER.error("Could not list {} directory: {}", dirName, dir, e);
+        }
+        return loaded;
+    }
+
+    /**
+     * Checks whether the data directory still holds the legacy map file.
+     *
+     * @param dataDir The data directory
+     * @return true if the entities still need to be migrated to individual files
+     */
+    boolean hasLegacyFile(@NotNull Path dataDir) {
+        return Files.exists(dataDir.resolve(legacyFileName));
+    }
+
+    /**
+     * Collects the entities changed or removed since the last snapshot.
+     * Must be called on the thread that mutates the entities; changed
+     * entities are copied so the returned batch can be written from any
+     * thread.
+     *
+     * @param live The current entities by key
+     * @return The pending writes and deletions
+     */
+    @NotNull
+    Batch snapshot(@NotNull Map<String, T> live) {
+        Map<String, T> changed = new LinkedHashMap<>();
+        Map<String, Saved> records = new LinkedHashMap<>();
+
+        live.forEach((key, entity) -> {
+            long version = versionOf.applyAsLong(entity);
+            Saved previous = saved.get(key);
+            if (previous == null || previous.entity() != entity || previous.version() != version) {
+                Saved record = new Saved(entity, version);
+                saved.put(key, record);
+                records.put(key, record);
+                changed.put(key, copier.apply(entity));
+            }
+        });
+
+        List<String> removed = new ArrayList<>();
+        for (String key : saved.keySet()) {
+            if (!live.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+        removed.forEach(saved::remove);
+
+        return new Batch(changed, records, removed, Set.copyOf(live.keySet()));
+    }
+
+    /**
+     * Writes every entity and deletes files of entities that no longer
+     * exist. Runs synchronously and does not affect incremental tracking.
+     *
+     * @param dataDir  The data directory
+     * @param entities The entities to write by key
+     */
+    void writeAll(@NotNull Path dataDir, @NotNull Map<String, T> entities) {
+        Path dir = dataDir.resolve(dirName);
+        boolean complete = true;
+
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            LOGGER.error("Could not create {} directory: {}", dirName, dir, e);
+            return;
+        }
+
+        Set<String> expectedFiles = new HashSet<>();
+        for (Map.Entry<String, T> entry : entities.entrySet()) {
+            String fileName = fileName(entry.getKey());
+            expectedFiles.add(fileName);
+            complete &= writeEntity(dir.resolve(fileName), entry.getValue());
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + JSON_SUFFIX)) {
+            for (Path file : files) {
+                if (!expectedFiles.contains(file.getFileName().toString())) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not remove stale {} files in {}", dirName, dir, e);
+            complete = false;
+        }
+
+        if (complete) {
+            retireLegacyFile(dataDir);
+        }
+        LOGGER.debug("Saved {} {} to {}/", entities.size(), dirName, dirName);
+    }
+
+    /**
+     * Serializes an object to JSON and atomically replaces the target file.
+     * The JSON is written to a temporary file first, so a crash mid-write
+     * never leaves a truncated file behind.
+     *
+     * @param gson   The Gson instance to serialize with
+     * @param path   The file to replace
+     * @param object The object to serialize
+     * @throws IOException if writing or moving the file fails
+     */
+    static void writeJsonAtomically(@NotNull Gson gson, @NotNull Path path, @Nullable Object object)
+            throws IOException {
+        DataFileEvent event = new DataFileEvent();
+        event.begin();
+        byte[] json = gson.toJson(object).getBytes(StandardCharsets.UTF_8);
+        Path tempPath = path.resolveSibling(path.getFileName() + TEMP_FILE_SUFFIX);
+
+        Files.write(tempPath, json);
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        FILES_WRITTEN.increment();
+        BYTES_WRITTEN.add(json.length);
+        if (event.shouldCommit()) {
+            event.set(path.toString(), true, json.length);
+            event.commit();
+        }
+    }
+
+    // Private helper methods
+
+    @NotNull
+    private Map<String, T> loadLegacy(@NotNull Path legacyPath) {
+        Map<String, T> loaded = new LinkedHashMap<>();
+
+        try (var reader = Files.newBufferedReader(legacyPath, StandardCharsets.UTF_8)) {
+            Map<String, T> legacy = gson.fromJson(reader, legacyMapType);
+            if (legacy != null) {
+                loaded.putAll(legacy);
+                LOGGER.info("Loaded {} {} from legacy file {}", loaded.size(), dirName, legacyFileName);
+            } else {
+                LOGGER.warn("Legacy file {} contained null data", legacyFileName);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not read legacy file: {}", legacyPath, e);
+        } catch (JsonParseException e) {
+            LOGGER.error("Invalid JSON format in legacy file: {}", legacyPath, e);
+        }
+        return loaded;
+    }
+
+    @Nullable
+    private T readEntity(@NotNull Path file) {
+        DataFileEvent event = new DataFileEvent();
+        event.begin();
+        try {
+            byte[] json = Files.readAllBytes(file);
+            T entity = gson.fromJson(new String(json, StandardCharsets.UTF_8), type);
+            if (event.shouldCommit()) {
+                event.set(file.toString(), false, json.length);
+                event.commit();
+            }
+            if (entity == null || keyOf.apply(entity) == null) {
+                LOGGER.warn("Skipping {} file without data: {}", dirName, file);
+                return null;
+            }
+            return entity;
+        } catch (IOException e) {
+            LOGGER.error("Could not read {} file: {}", dirName, file, e);
+        } catch (JsonParseException e) {
+            LOGGER.error("Invalid JSON format in {} file: {}", dirName, file, e);
+        }
+        return null;
+    }
+
+    private boolean writeEntity(@NotNull Path file, @NotNull T entity) {
+        try {
+            writeJsonAtomically(gson, file, entity);
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Failed to write {} file: {}", dirName, file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Renames the legacy map file so it is no longer loaded.
+     */
+    private void retireLegacyFile(@NotNull Path dataDir) {
+        Path legacyPath = dataDir.resolve(legacyFileName);
+        if (!Files.exists(legacyPath)) {
+            return;
+        }
+
+        try {
+            Files.move(legacyPath, legacyPath.resolveSibling(legacyFileName + MIGRATED_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info("Migrated {} to {}/", legacyFileName, dirName);
+        } catch (IOException e) {
+            LOGGER.error("Could not retire legacy file: {}", legacyPath, e);
+        }
+    }
+
+    @NotNull
+    private static String fileName(@NotNull String key) {
+        return URLEncoder.encode(key, StandardCharsets.UTF_8) + JSON_SUFFIX;
+    }
+
+    // Inner classes
+
+    /**
+     * The object and version last handed to the writer for one key.
+     */
+    private record Saved(@Nullable Object entity, long version) {
+    }
+
+    /**
+     * Writes and deletions collected by one {@link #snapshot(Map)} call.
+     * Failed operations are handed back to the store, so the next snapshot
+     * retries them.
+     */
+    final class Batch {
+        private final Map<String, T> changed;
+        private final Map<String, Saved> records;
+        private final List<String> removed;
+        private final Set<String> liveKeys;
+
+        private Batch(Map<String, T> changed, Map<String, Saved> records, List<String> removed,
+                Set<String> liveKeys) {
+            this.changed = changed;
+            this.records = records;
+            this.removed = removed;
+            this.liveKeys = liveKeys;
+        }
+
+        /**
+         * @return true if the batch neither writes nor deletes anything
+         */
+        boolean isEmpty() {
+            return changed.isEmpty() && removed.isEmpty();
+        }
+
+        /**
+         * @return The number of entity files the batch writes
+         */
+        int changedCount() {
+            return changed.size();
+        }
+
+        /**
+         * Writes the batch to the data directory.
+         *
+         * @param dataDir The data directory
+         * @return true if the files on disk now match the snapshot, including
+         *         writes handed back by earlier failed batches
+         */
+        boolean write(@NotNull Path dataDir) {
+            Path dir = dataDir.resolve(dirName);
+            boolean complete = true;
+
+            if (!changed.isEmpty()) {
+                try {
+                    Files.createDirectories(dir);
+                } catch (IOException e) {
+                    LOGGER.error("Could not create {} directory: {}", dirName, dir, e);
+                }
+            }
+
+            for (Map.Entry<String, T> entry : changed.entrySet()) {
+                String key = entry.getKey();
+                if (!writeEntity(dir.resolve(fileName(key)), entry.getValue())) {
+                    saved.remove(key, records.get(key));
+                    complete = false;
+                }
+            }
+
+            for (String key : removed) {
+                try {
+                    Files.deleteIfExists(dir.resolve(fileName(key)));
+                } catch (IOException e) {
+                    LOGGER.error("Failed to delete {} file for '{}'", dirName, key, e);
+                    saved.putIfAbsent(key, DELETE_PENDING);
+                    complete = false;
+                }
+            }
+
+            // Earlier failed batches hand their keys back; wait until all are written
+            boolean settled = complete && saved.keySet().containsAll(liveKeys)
+                    && !saved.containsValue(DELETE_PENDING);
+            if (settled) {
+                retireLegacyFile(dataDir);
+            }
+            return settled;
+        }
+    }
+}
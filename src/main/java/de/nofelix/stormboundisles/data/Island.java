@@ -38,6 +38,9 @@ public final class Island {
     private int spawnY = UNDEFINED_SPAWN_Y;
     private int spawnZ = 0;
 
+    // Bumped by every mutator so saves can skip unchanged islands (not serialized)
+    private transient volatile long version;
+
     /**
      * Constructs a new Island with the given ID and type.
      *
@@ -123,6 +126,17 @@ public final class Island {
         return spawnZ;
     }
 
+    /**
+     * Gets the change counter of this island.
+     * Incremented by every mutator; used by the DataManager to detect
+     * islands that need to be saved.
+     *
+     * @return The current version
+     */
+    long getVersion() {
+        return version;
+    }
+
     // Setters with validation
     
     /**
@@ -134,15 +148,19 @@ public final class Island {
     public void setType(@NotNull IslandType type) {
         validateType(type);
         this.type = type;
+        version++;
     }
 
     /**
      * Sets the island's geographical zone.
+     * The DataManager's spatial index is updated if this island is registered.
      *
      * @param zone The new geographical zone, or null to clear
      */
     public void setZone(@Nullable Zone zone) {
         this.zone = zone;
+        version++;
+        DataManager.onZoneChanged(this);
     }
 
     /**
@@ -152,6 +170,7 @@ public final class Island {
      */
     public void setTeamName(@Nullable String teamName) {
         this.teamName = (teamName != null && teamName.trim().isEmpty()) ? null : teamName;
+        version++;
     }
 
     /**
@@ -165,6 +184,7 @@ public final class Island {
         this.spawnX = x;
         this.spawnY = y;
         this.spawnZ = z;
+        version++;
     }
 
     /**
@@ -174,6 +194,7 @@ public final class Island {
         this.spawnX = 0;
         this.spawnY = UNDEFINED_SPAWN_Y;
         this.spawnZ = 0;
+        version++;
     }
 
     // State check methods
@@ -214,6 +235,24 @@ public final class Island {
         return !hasTeam();
     }
 
+    /**
+     * Creates a detached copy of this island for background serialization.
+     * The copy shares the immutable zone and is not registered with the
+     * DataManager.
+     *
+     * @return A new island with the same state
+     */
+    @NotNull
+    Island copy() {
+        Island copy = new Island(id, type);
+        copy.zone = zone;
+        copy.teamName = teamName;
+        copy.spawnX = spawnX;
+        copy.spawnY = spawnY;
+        copy.spawnZ = spawnZ;
+        return copy;
+    }
+
     // Private validation methods
     
     private static void validateId(@Nullable String id) {
@@ -0,0 +1,184 @@
+package de.nofelix.stormboundisles.data;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Spatial index mapping chunk columns to the islands whose zones may cover them.
+ *
+ * Every chunk overlapped by a zone's bounding box holds that island as a
+ * candidate; lookups only run exact containment checks against the few
+ * candidates of a single chunk instead of against every island.
+ *
+ * Owned and kept up to date by {@link DataManager}. All methods are
+ * synchronized, so the index can be read and updated from any thread.
+ */
+final class IslandIndex {
+
+    private static final Island[] NO_ISLANDS = new Island[0];
+
+    // Chunk key -> candidate islands (copy-on-write arrays)
+    private final Long2ObjectMap<Island[]> cells = new Long2ObjectOpenHashMap<>();
+    // Island ID -> zone it is currently indexed with, needed to unindex old geometry
+    private final Map<String, Zone> indexedZones = new Object2ObjectOpenHashMap<>();
+    // Bumped by every change, so callers can tell whether a cached lookup is still valid
+    private volatile long version;
+
+    /**
+     * Indexes an island under its current zone, replacing any previous entry
+     * for the same island ID. Islands without a zone are only unindexed.
+     *
+     * @param island The island to index
+     */
+    synchronized void put(@NotNull Island island) {
+        remove(island.getId());
+        version++;
+
+        Zone zone = island.getZone();
+        if (zone == null) {
+            return;
+        }
+
+        indexedZones.put(island.getId(), zone);
+        forEachChunk(zone, key -> cells.put(key, append(cells.getOrDefault(key, NO_ISLANDS), island)));
+    }
+
+    /**
+     * Removes an island from the index.
+     *
+     * @param islandId The ID of the island to remove
+     */
+    synchronized void remove(@NotNull String islandId) {
+        Zone zone = indexedZones.remove(islandId);
+        if (zone == null) {
+            return;
+        }
+
+        version++;
+        forEachChunk(zone, key -> {
+            Island[] remaining = without(cells.get(key), islandId);
+            if (remaining.length == 0) {
+                cells.remove(key);
+            } else {
+                cells.put(key, remaining);
+            }
+        });
+    }
+
+    /**
+     * Removes every island from the index.
+     */
+    synchronized void clear() {
+        cells.clear();
+        indexedZones.clear();
+        version++;
+    }
+
+    /**
+     * Gets the modification count of the index. It changes whenever an
+     * island is indexed or removed, so a lookup made at the same version
+     * would still return the same island.
+     *
+     * @return The current version
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Finds the island whose zone contains the given block column.
+     *
+     * @param x The block X coordinate
+     * @param z The block Z coordinate
+     * @return The containing island, or null if the column is not on any island
+     */
+    @Nullable
+    synchronized Island islandAt(int x, int z) {
+        Island[] candidates = cells.get(ChunkPos.toLong(x >> 4, z >> 4));
+        if (candidates == null) {
+            return null;
+        }
+
+        for (Island candidate : candidates) {
+            Zone zone = candidate.getZone();
+            if (zone != null && zone.contains(x, z)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds all islands whose zones contain the given block column, for
+     * columns where zones overlap or share a border.
+     *
+     * @param x The block X coordinate
+     * @param z The block Z coordinate
+     * @return The containing islands, the one {@link #islandAt} returns
+     *         first; empty if the column is not on any island
+     */
+    @NotNull
+    synchronized List<Island> islandsAt(int x, int z) {
+        Island[] candidates = cells.get(ChunkPos.toLong(x >> 4, z >> 4));
+        if (candidates == null) {
+            return List.of();
+        }
+
+        List<Island> containing = List.of();
+        for (Island candidate : candidates) {
+            Zone zone = candidate.getZone();
+            if (zone != null && zone.contains(x, z)) {
+                if (containing.isEmpty()) {
+                    containing = new ArrayList<>(candidates.length);
+                }
+                containing.add(candidate);
+            }
+        }
+        return containing;
+    }
+
+    // Private helper methods
+
+    /**
+     * Calls the action with the key of every chunk overlapped by the zone's bounds.
+     */
+    private static void forEachChunk(@NotNull Zone zone, @NotNull LongConsumer action) {
+        int minChunkX = zone.getMinX() >> 4;
+        int maxChunkX = zone.getMaxX() >> 4;
+        int minChunkZ = zone.getMinZ() >> 4;
+        int maxChunkZ = zone.getMaxZ() >> 4;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                action.accept(ChunkPos.toLong(chunkX, chunkZ));
+            }
+        }
+    }
+
+    @NotNull
+    private static Island[] append(@NotNull Island[] islands, @NotNull Island island) {
+        Island[] result = Arrays.copyOf(islands, islands.length + 1);
+        result[islands.length] = island;
+        return result;
+    }
+
+    @NotNull
+    private static Island[] without(@Nullable Island[] islands, @NotNull String islandId) {
+        if (islands == null) {
+            return NO_ISLANDS;
+        }
+        return Arrays.stream(islands)
+                .filter(island -> !island.getId().equals(islandId))
+                .toArray(Island[]::new);
+    }
+}
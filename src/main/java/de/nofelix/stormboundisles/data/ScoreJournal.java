@@ -0,0 +1,336 @@
+package de.nofelix.stormboundisles.data;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Append-only journal of team score, membership and island assignment changes.
+ *
+ * Changes are recorded as absolute, idempotent events, so replaying the
+ * journal on top of any older snapshot of the team files yields the latest
+ * state. Events recorded during a tick are buffered and appended in one
+ * write per tick (group commit) on the writer thread.
+ *
+ * The journal is split into numbered segments. A save seals the current
+ * segment with {@link #rotate()}; once the save's files are on disk, the
+ * sealed segments are deleted with {@link #deleteSegmentsUpTo(long)}.
+ *
+ * Event format, one tab-separated line per event with URL-encoded names:
+ * ```
+ * T <team>          team registered, replacing any team of that name
+ * D <team>          team removed
+ * P <team> <points> points set
+ * I <team> [island] island assigned, or cleared without argument
+ * A <team> <uuid>   member added
+ * R <team> <uuid>   member removed
+ * ```
+ */
+final class ScoreJournal {
+
+    private static final Logger LOGGER = StormboundIslesMod.LOGGER;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final char SEPARATOR = '\t';
+
+    @NotNull
+    private final Executor writer;
+
+    // Events recorded since the last commit, guarded by this
+    private final StringBuilder pending = new StringBuilder();
+    private long currentSegment = 1;
+    private int uncompactedEvents = 0;
+    @Nullable
+    private Path dataDir;
+
+    // Writer thread state, guarded by ioLock
+    private final Object ioLock = new Object();
+    @Nullable
+    private FileChannel channel;
+    private long channelSegment = -1;
+
+    /**
+     * @param writer Runs appends and deletions in order with data saves
+     */
+    ScoreJournal(@NotNull Executor writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Opens the journal in the data directory and replays its segments onto
+     * the given teams. Replayed teams are changed through their public API
+     * and must not be registered with the DataManager yet, so the replay is
+     * not journaled again.
+     *
+     * @param dir   The data directory
+     * @param teams The teams loaded from the last snapshot, updated in place
+     * @return The number of events replayed
+     */
+    synchronized int open(@NotNull Path dir, @NotNull Map<String, Team> teams) {
+        closeChannel();
+        pending.setLength(0);
+        dataDir = dir;
+
+        List<Long> segments = listSegments(dir);
+        int replayed = 0;
+        for (long segment : segments) {
+            replayed += replaySegment(segmentPath(dir, segment), teams);
+        }
+
+        currentSegment = segments.isEmpty() ? 1 : segments.get(segments.size() - 1) + 1;
+        uncompactedEvents = replayed;
+        if (replayed > 0) {
+            LOGGER.info("Replayed {} journal events from {} segments", replayed, segments.size());
+        }
+        return replayed;
+    }
+
+    synchronized void recordTeamRegistered(@NotNull Team team) {
+        append('T', team.getName(), null);
+        append('P', team.getName(), Integer.toString(team.getPoints()));
+        append('I', team.getName(), encodeIslandId(team.getIslandId()));
+        for (UUID member : team.getMembers()) {
+            append('A', team.getName(), member.toString());
+        }
+    }
+
+    synchronized void recordTeamRemoved(@NotNull String teamName) {
+        append('D', teamName, null);
+    }
+
+    synchronized void recordPoints(@NotNull String teamName, int points) {
+        append('P', teamName, Integer.toString(points));
+    }
+
+    synchronized void recordIslandAssignment(@NotNull String teamName, @Nullable String islandId) {
+        append('I', teamName, encodeIslandId(islandId));
+    }
+
+    synchronized void recordMemberAdded(@NotNull String teamName, @NotNull UUID playerUuid) {
+        append('A', teamName, playerUuid.toString());
+    }
+
+    synchronized void recordMemberRemoved(@NotNull String teamName, @NotNull UUID playerUuid) {
+        append('R', teamName, playerUuid.toString());
+    }
+
+    /**
+     * Hands the events recorded since the last call to the writer thread.
+     * Called once per tick, so all changes of a tick share one write and one
+     * sync.
+     */
+    synchronized void commit() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        byte[] bytes = pending.toString().getBytes(StandardCharsets.UTF_8);
+        pending.setLength(0);
+        Path dir = dataDir;
+        long segment = currentSegment;
+        if (dir != null) {
+            writer.execute(() -> write(dir, segment, bytes));
+        }
+    }
+
+    /**
+     * Commits pending events and starts a new segment. The returned segment
+     * and all earlier ones may be deleted once a snapshot taken right after
+     * this call is on disk.
+     *
+     * @return The last sealed segment
+     */
+    synchronized long rotate() {
+        commit();
+        uncompactedEvents = 0;
+        return currentSegment++;
+    }
+
+    /**
+     * @return true if events were recorded or replayed since the last rotation
+     */
+    synchronized boolean hasUncompactedEvents() {
+        return uncompactedEvents > 0;
+    }
+
+    /**
+     * Deletes the given segment and all earlier ones. Must run on the writer
+     * thread, or while it is idle.
+     *
+     * @param lastSegment The last segment to delete
+     */
+    void deleteSegmentsUpTo(long lastSegment) {
+        Path dir;
+        synchronized (this) {
+            dir = dataDir;
+        }
+        if (dir == null) {
+            return;
+        }
+
+        synchronized (ioLock) {
+            if (channel != null && channelSegment <= lastSegment) {
+                closeChannel();
+            }
+            for (long segment : listSegments(dir)) {
+                if (segment <= lastSegment) {
+                    try {
+                        Files.deleteIfExists(segmentPath(dir, segment));
+                    } catch (IOException e) {
+                        LOGGER.error("Failed to delete journal segment {}", segment, e);
+                    }
+                }
+            }
+        }
+    }
+
+    // Private helper methods
+
+    private void append(char op, @NotNull String teamName, @Nullable String argument) {
+        pending.append(op).append(SEPARATOR).append(URLEncoder.encode(teamName, StandardCharsets.UTF_8));
+        if (argument != null) {
+            pending.append(SEPARATOR).append(argument);
+        }
+        pending.append('\n');
+        uncompactedEvents++;
+    }
+
+    private void write(@NotNull Path dir, long segment, byte[] bytes) {
+        synchronized (ioLock) {
+            try {
+                if (channel == null || channelSegment != segment) {
+                    closeChannel();
+                    channel = FileChannel.open(segmentPath(dir, segment), StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                    channelSegment = segment;
+                }
+
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                LOGGER.error("Failed to append to journal segment {}", segment, e);
+                closeChannel();
+            }
+        }
+    }
+
+    private void closeChannel() {
+        synchronized (ioLock) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close journal segment {}", channelSegment, e);
+            }
+            channel = null;
+            channelSegment = -1;
+        }
+    }
+
+    /**
+     * Applies the complete lines of one segment. A trailing line without a
+     * newline was cut off by a crash and is ignored.
+     */
+    private static int replaySegment(@NotNull Path file, @NotNull Map<String, Team> teams) {
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.error("Could not read journal segment: {}", file, e);
+            return 0;
+        }
+
+        int replayed = 0;
+        int lineStart = 0;
+        int lineEnd;
+        while ((lineEnd = content.indexOf('\n', lineStart)) >= 0) {
+            String line = content.substring(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            try {
+                apply(line, teams);
+                replayed++;
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                LOGGER.warn("Skipping invalid journal line in {}: {}", file.getFileName(), line);
+            }
+        }
+        return replayed;
+    }
+
+    private static void apply(@NotNull String line, @NotNull Map<String, Team> teams) {
+        String[] parts = line.split(String.valueOf(SEPARATOR), -1);
+        char op = parts[0].charAt(0);
+        String teamName = URLDecoder.decode(parts[1], StandardCharsets.UTF_8);
+
+        switch (op) {
+            case 'T' -> teams.put(teamName, new Team(teamName));
+            case 'D' -> teams.remove(teamName);
+            default -> {
+                Team team = teams.get(teamName);
+                if (team == null) {
+                    return;
+                }
+                switch (op) {
+                    case 'P' -> team.setPoints(Integer.parseInt(parts[2]));
+                    case 'I' -> team.setIslandId(parts.length > 2
+                            ? URLDecoder.decode(parts[2], StandardCharsets.UTF_8)
+                            : null);
+                    case 'A' -> team.addMember(UUID.fromString(parts[2]));
+                    case 'R' -> team.removeMember(UUID.fromString(parts[2]));
+                    default -> throw new IllegalArgumentException("Unknown journal event: " + op);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static String encodeIslandId(@Nullable String islandId) {
+        return islandId != null ? URLEncoder.encode(islandId, StandardCharsets.UTF_8) : null;
+    }
+
+    @NotNull
+    private static List<Long> listSegments(@NotNull Path dir) {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.add(Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    LOGGER.warn("Ignoring unexpected journal file: {}", file);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not list journal segments in {}", dir, e);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    @NotNull
+    private static Path segmentPath(@NotNull Path dir, long segment) {
+        return dir.resolve(SEGMENT_PREFIX + segment + SEGMENT_SUFFIX);
+    }
+}
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -42,6 +43,12 @@ public final class Team {
     private String islandId;
     private int points = 0;
 
+    // Cached read-only view of members (not serialized)
+    @Nullable
+    private transient Set<UUID> membersView;
+    // Bumped by every mutator so saves can skip unchanged teams (not serialized)
+    private transient volatile long version;
+
     /**
      * Constructs a new Team with the given name.
      * 
@@ -66,14 +73,20 @@ public final class Team {
     }
 
     /**
-     * Gets an unmodifiable view of the team members.
+     * Gets an unmodifiable live view of the team members.
+     * The view is created once and reflects later membership changes.
      * This operation is thread-safe.
      * 
      * @return An unmodifiable set of member UUIDs
      */
     @NotNull
     public Set<UUID> getMembers() {
-        return Collections.unmodifiableSet(Set.copyOf(members));
+        Set<UUID> view = membersView;
+        if (view == null) {
+            view = Collections.unmodifiableSet(members);
+            membersView = view;
+        }
+        return view;
     }
 
     /**
@@ -105,6 +118,17 @@ public final class Team {
         return members.size();
     }
 
+    /**
+     * Gets the change counter of this team.
+     * Incremented by every mutator; used by the DataManager to detect teams
+     * that need to be saved.
+     * 
+     * @return The current version
+     */
+    long getVersion() {
+        return version;
+    }
+
     // Member management methods
 
     /**
@@ -117,7 +141,12 @@ public final class Team {
      */
     public boolean addMember(@NotNull UUID playerUuid) {
         validatePlayerUuid(playerUuid);
-        return members.add(playerUuid);
+        boolean added = members.add(playerUuid);
+        if (added) {
+            version++;
+            DataManager.onMemberAdded(this, playerUuid);
+        }
+        return added;
     }
 
     /**
@@ -130,7 +159,12 @@ public final class Team {
      */
     public boolean removeMember(@NotNull UUID playerUuid) {
         validatePlayerUuid(playerUuid);
-        return members.remove(playerUuid);
+        boolean removed = members.remove(playerUuid);
+        if (removed) {
+            version++;
+            DataManager.onMemberRemoved(this, playerUuid);
+        }
+        return removed;
     }
 
     /**
@@ -151,7 +185,13 @@ public final class Team {
      * This operation is thread-safe.
      */
     public void clearMembers() {
-        members.clear();
+        Iterator<UUID> iterator = members.iterator();
+        while (iterator.hasNext()) {
+            UUID member = iterator.next();
+            iterator.remove();
+            version++;
+            DataManager.onMemberRemoved(this, member);
+        }
     }
 
     // Island assignment methods
@@ -163,6 +203,8 @@ public final class Team {
      */
     public void setIslandId(@Nullable String islandId) {
         this.islandId = (islandId != null && islandId.trim().isEmpty()) ? null : islandId;
+        version++;
+        DataManager.onIslandAssigned(this);
     }
 
     /**
@@ -170,6 +212,8 @@ public final class Team {
      */
     public void clearIslandAssignment() {
         this.islandId = null;
+        version++;
+        DataManager.onIslandAssigned(this);
     }
 
     /**
@@ -194,6 +238,8 @@ public final class Team {
             throw new IllegalArgumentException("Points cannot be negative");
         }
         this.points = points;
+        version++;
+        DataManager.onPointsChanged(this);
     }
 
     /**
@@ -205,6 +251,8 @@ public final class Team {
      */
     public int addPoints(int pointsToAdd) {
         this.points = Math.max(0, this.points + pointsToAdd);
+        version++;
+        DataManager.onPointsChanged(this);
         return this.points;
     }
 
@@ -213,6 +261,8 @@ public final class Team {
      */
     public void resetPoints() {
         this.points = 0;
+        version++;
+        DataManager.onPointsChanged(this);
     }
 
     // State check methods
@@ -235,6 +285,22 @@ public final class Team {
         return members.isEmpty();
     }
 
+    /**
+     * Creates a detached copy of this team for background serialization.
+     * The copy is not registered with the DataManager, so filling it does
+     * not touch the membership index.
+     *
+     * @return A new team with the same state
+     */
+    @NotNull
+    Team copy() {
+        Team copy = new Team(name);
+        copy.members.addAll(members);
+        copy.islandId = islandId;
+        copy.points = points;
+        return copy;
+    }
+
     // Private validation methods
 
     private static void validateTeamName(@Nullable String name) {
@@ -0,0 +1,113 @@
+package de.nofelix.stormboundisles.data;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing write-behind queue used by {@link DataManager}.
+ *
+ * Save requests only mark data dirty. Once the configured delay has passed
+ * since the first request, the next tick takes a snapshot on the server
+ * thread and hands it to a single background thread for serialization and
+ * disk I/O. Writes run in submission order, so an older snapshot never
+ * overwrites a newer one.
+ */
+final class WriteBehindSaver {
+
+    private static final Logger LOGGER = StormboundIslesMod.LOGGER;
+    private static final long FLUSH_TIMEOUT_SECONDS = 30L;
+
+    /** Takes a snapshot on the calling thread and returns the work that writes it. */
+    @NotNull
+    private final Supplier<Runnable> snapshotter;
+    @NotNull
+    private final ExecutorService executor;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private int ticksSinceDirty = 0;
+
+    WriteBehindSaver(@NotNull String threadName, @NotNull Supplier<Runnable> snapshotter) {
+        this.snapshotter = snapshotter;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests a save. Requests made before the pending save starts are
+     * written together.
+     */
+    void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Advances the coalescing window by one tick and submits a snapshot once
+     * it has elapsed. Must be called on the server thread.
+     *
+     * @param delayTicks Ticks to wait after the first request before saving
+     */
+    void tick(int delayTicks) {
+        if (!dirty.get()) {
+            return;
+        }
+        if (++ticksSinceDirty < delayTicks) {
+            return;
+        }
+
+        ticksSinceDirty = 0;
+        dirty.set(false);
+        submit(snapshotter.get());
+    }
+
+    /**
+     * Runs other disk work on the writer thread, ordered with the saves
+     * submitted before and after it.
+     *
+     * @param task The work to run
+     */
+    void submit(@NotNull Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOGGER.error("Background save failed", e);
+            }
+        });
+    }
+
+    /**
+     * Queues a final save behind all background writes and waits for it to
+     * finish. Used on shutdown, where the data must be on disk before the
+     * method returns. The save always runs on the writer thread, so it never
+     * overlaps a background write, even if the wait times out.
+     *
+     * @param finalSave The work that writes a snapshot taken by the caller
+     */
+    void flush(@NotNull Runnable finalSave) {
+        dirty.set(false);
+        ticksSinceDirty = 0;
+
+        try {
+            executor.submit(finalSave).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for the final save, it continues in the background");
+        } catch (ExecutionException e) {
+            LOGGER.error("Final save failed", e.getCause());
+        } catch (TimeoutException e) {
+            LOGGER.warn("Final save did not finish within {}s, it continues in the background",
+                    FLUSH_TIMEOUT_SECONDS);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package de.nofelix.stormboundisles.data;
 
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Metrics;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -32,20 +34,37 @@ import java.util.Objects;
  * 
  * // Check if player is in territory (Y-coordinate ignored)
  * boolean inTerritory = zone.contains(playerPos);
+ * 
+ * // Blocks the player can walk before reaching the border
+ * double depth = -zone.signedDistance(playerPos);
  * ```
  */
 public final class Zone {
     
     // Constants
-    private static final double EDGE_TOLERANCE = 0.01;
-    private static final double BLOCK_CENTER_OFFSET = 0.5;
+    /**
+     * Squared distance (in blocks) below which a block center counts as lying on
+     * an edge. Stored as its inverse so the edge test stays in integer math.
+     */
+    private static final long EDGE_TOLERANCE_INVERSE = 100L; // 1 / 0.01
+    /**
+     * Cross products at or above this magnitude can never satisfy the edge
+     * tolerance for world-sized edges, and squaring them could overflow.
+     */
+    private static final long MAX_EDGE_CROSS = 1L << 26;
     private static final int MIN_POLYGON_VERTICES = 3;
     private static final int RECTANGLE_VERTICES = 4;
+    private static final Counter CONTAINS_CALLS = Metrics.counter("zone.contains");
+    private static final Counter DISTANCE_CALLS = Metrics.counter("zone.distance");
     
     // Core properties (immutable)
     @NotNull
     private final List<BlockPos> points;
 
+    // Derived geometry, compiled once on first use (not serialized)
+    @Nullable
+    private transient Geometry geometry;
+
     /**
      * Constructs a new Zone from a list of vertices.
      * 
@@ -134,13 +153,81 @@ public final class Zone {
      */
     public boolean contains(@NotNull BlockPos pos) {
         validatePosition(pos);
-        
-        // Check if point is exactly on polygon edge
-        if (isOnPolygonEdge(pos)) {
-            return true;
-        }
+        CONTAINS_CALLS.increment();
+        return geometry().contains(pos.getX(), pos.getZ());
+    }
+
+    /**
+     * Checks if the given block column is contained within this territorial zone.
+     * 
+     * Equivalent to {@link #contains(BlockPos)} for a position with the same
+     * X and Z coordinates, without requiring a BlockPos instance.
+     *
+     * @param x The block X coordinate
+     * @param z The block Z coordinate
+     * @return true if the column is inside the territory, false otherwise
+     */
+    public boolean contains(int x, int z) {
+        CONTAINS_CALLS.increment();
+        return geometry().contains(x, z);
+    }
+
+    /**
+     * Computes the signed distance from the given position to the border of
+     * this territorial zone.
+     * 
+     * The distance is measured horizontally between block centers and the
+     * polygon edges through the vertex block centers. It is zero or negative
+     * inside the territory and positive outside it, consistent with
+     * {@link #contains(BlockPos)}.
+     *
+     * @param pos The position to measure from
+     * @return The distance to the nearest edge in blocks, negative if inside
+     * @throws IllegalArgumentException if pos is null
+     */
+    public double signedDistance(@NotNull BlockPos pos) {
+        validatePosition(pos);
+        return signedDistance(pos.getX(), pos.getZ());
+    }
+
+    /**
+     * Computes the signed distance from the given block column to the border
+     * of this territorial zone.
+     * 
+     * Equivalent to {@link #signedDistance(BlockPos)} for a position with the
+     * same X and Z coordinates, without requiring a BlockPos instance.
+     *
+     * @param x The block X coordinate
+     * @param z The block Z coordinate
+     * @return The distance to the nearest edge in blocks, negative if inside
+     */
+    public double signedDistance(int x, int z) {
+        DISTANCE_CALLS.increment();
+        return geometry().signedDistance(x, z, Double.POSITIVE_INFINITY);
+    }
 
-        return performRayCasting(pos);
+    /**
+     * Computes the signed distance from the given position to the border of
+     * this territorial zone, up to a limit.
+     * 
+     * Like {@link #signedDistance(BlockPos)}, except that a border farther
+     * away than the limit is reported at the limit. Edges whose extents lie
+     * beyond it are skipped, so a small limit is much cheaper on zones with
+     * many vertices, e.g. when only the first few blocks of depth matter.
+     *
+     * @param pos         The position to measure from
+     * @param maxDistance The largest distance of interest, at least 1 block
+     * @return The distance to the nearest edge in blocks, at most maxDistance,
+     *         negative if inside
+     * @throws IllegalArgumentException if pos is null or maxDistance is below 1
+     */
+    public double signedDistance(@NotNull BlockPos pos, double maxDistance) {
+        validatePosition(pos);
+        if (!(maxDistance >= 1.0)) {
+            throw new IllegalArgumentException("Maximum distance must be at least 1 block: " + maxDistance);
+        }
+        DISTANCE_CALLS.increment();
+        return geometry().signedDistance(pos.getX(), pos.getZ(), maxDistance);
     }
 
     // State check methods
@@ -168,8 +255,11 @@ public final class Zone {
                 "A polygon zone requires at least %d points, got %d".formatted(MIN_POLYGON_VERTICES, points.size())
             );
         }
-        if (points.contains(null)) {
-            throw new IllegalArgumentException("Points list cannot contain null positions");
+        // Immutable lists reject contains(null), so scan explicitly
+        for (BlockPos point : points) {
+            if (point == null) {
+                throw new IllegalArgumentException("Points list cannot contain null positions");
+            }
         }
     }
 
@@ -192,105 +282,17 @@ public final class Zone {
     }
 
     /**
-     * Gets the X coordinate of a block's center.
+     * Gets the compiled geometry, building it on first use.
+     * The field is transient so zones deserialized by Gson compile lazily too.
      */
-    private static double getCenterX(@NotNull BlockPos pos) {
-        return pos.getX() + BLOCK_CENTER_OFFSET;
-    }
-
-    /**
-     * Gets the Z coordinate of a block's center.
-     */
-    private static double getCenterZ(@NotNull BlockPos pos) {
-        return pos.getZ() + BLOCK_CENTER_OFFSET;
-    }
-
-    /**
-     * Checks if a position lies exactly on any edge of the polygon.
-     * Only uses X and Z coordinates - Y is ignored.
-     */
-    private boolean isOnPolygonEdge(@NotNull BlockPos pos) {
-        double x = getCenterX(pos);
-        double z = getCenterZ(pos);
-        int n = points.size();
-
-        for (int i = 0; i < n; i++) {
-            int j = (i + 1) % n; // Next vertex (wrapping to 0 for last vertex)
-            
-            if (isPointOnLineSegment(x, z, points.get(i), points.get(j))) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-
-    /**
-     * Checks if a point lies on a line segment between two vertices.
-     * Only uses X and Z coordinates - Y is ignored.
-     */
-    private boolean isPointOnLineSegment(double x, double z, @NotNull BlockPos vertex1, @NotNull BlockPos vertex2) {
-        double x1 = getCenterX(vertex1);
-        double z1 = getCenterZ(vertex1);
-        double x2 = getCenterX(vertex2);
-        double z2 = getCenterZ(vertex2);
-        
-        return calculateDistanceToLineSegmentSquared(x, z, x1, z1, x2, z2) < EDGE_TOLERANCE;
-    }
-
-    /**
-     * Calculates the squared distance from a point to a line segment.
-     * Uses only X and Z coordinates.
-     */
-    private static double calculateDistanceToLineSegmentSquared(
-            double pointX, double pointZ, 
-            double lineX1, double lineZ1, 
-            double lineX2, double lineZ2) {
-        
-        double lineLength = (lineX2 - lineX1) * (lineX2 - lineX1) + (lineZ2 - lineZ1) * (lineZ2 - lineZ1);
-        
-        if (lineLength == 0.0) {
-            // Line segment is actually a point
-            return (pointX - lineX1) * (pointX - lineX1) + (pointZ - lineZ1) * (pointZ - lineZ1);
-        }
-
-        // Calculate projection parameter
-        double t = ((pointX - lineX1) * (lineX2 - lineX1) + (pointZ - lineZ1) * (lineZ2 - lineZ1)) / lineLength;
-        t = Math.clamp(t, 0.0, 1.0); // Clamp to line segment
-
-        // Calculate projection point
-        double projectionX = lineX1 + t * (lineX2 - lineX1);
-        double projectionZ = lineZ1 + t * (lineZ2 - lineZ1);
-
-        // Return squared distance to projection
-        return (pointX - projectionX) * (pointX - projectionX) + (pointZ - projectionZ) * (pointZ - projectionZ);
-    }
-
-    /**
-     * Performs ray-casting algorithm to determine if a point is inside the polygon.
-     * Only uses X and Z coordinates - Y is ignored.
-     */
-    private boolean performRayCasting(@NotNull BlockPos pos) {
-        boolean inside = false;
-        double x = getCenterX(pos);
-        double z = getCenterZ(pos);
-        int n = points.size();
-
-        for (int i = 0; i < n; i++) {
-            int j = (i + 1) % n; // Next vertex (wrapping)
-            
-            double xi = getCenterX(points.get(i));
-            double zi = getCenterZ(points.get(i));
-            double xj = getCenterX(points.get(j));
-            double zj = getCenterZ(points.get(j));
-
-            // Check if ray intersects with polygon edge
-            if (((zi > z) != (zj > z)) && (x < (xj - xi) * (z - zi) / (zj - zi) + xi)) {
-                inside = !inside;
-            }
+    @NotNull
+    private Geometry geometry() {
+        Geometry compiled = geometry;
+        if (compiled == null) {
+            compiled = new Geometry(points);
+            geometry = compiled;
         }
-
-        return inside;
+        return compiled;
     }
 
     // Object methods
@@ -318,29 +320,228 @@ public final class Zone {
     
     /**
      * Gets the minimum X coordinate among all vertices.
+     *
+     * @return The smallest vertex X coordinate
      */
-    private int getMinX() {
-        return points.stream().mapToInt(BlockPos::getX).min().orElse(0);
+    public int getMinX() {
+        return geometry().minX;
     }
 
     /**
      * Gets the maximum X coordinate among all vertices.
+     *
+     * @return The largest vertex X coordinate
      */
-    private int getMaxX() {
-        return points.stream().mapToInt(BlockPos::getX).max().orElse(0);
+    public int getMaxX() {
+        return geometry().maxX;
     }
 
     /**
      * Gets the minimum Z coordinate among all vertices.
+     *
+     * @return The smallest vertex Z coordinate
      */
-    private int getMinZ() {
-        return points.stream().mapToInt(BlockPos::getZ).min().orElse(0);
+    public int getMinZ() {
+        return geometry().minZ;
     }
 
     /**
      * Gets the maximum Z coordinate among all vertices.
+     *
+     * @return The largest vertex Z coordinate
      */
-    private int getMaxZ() {
-        return points.stream().mapToInt(BlockPos::getZ).max().orElse(0);
+    public int getMaxZ() {
+        return geometry().maxZ;
+    }
+
+    // Inner classes
+
+    /**
+     * Packed, precomputed form of the polygon used for containment checks.
+     * 
+     * Vertices and query positions are both compared at block centers, so the
+     * half-block offset cancels out and every test reduces to exact integer
+     * arithmetic on block coordinates. Each edge stores its start vertex, its
+     * direction, its squared length and its X and Z extents, so a query touches only
+     * flat arrays and performs no allocation or division.
+     */
+    private static final class Geometry {
+        private final int edgeCount;
+        private final int[] startX;
+        private final int[] startZ;
+        private final long[] deltaX;
+        private final long[] deltaZ;
+        private final long[] lengthSquared;
+        private final int[] edgeMinX;
+        private final int[] edgeMaxX;
+        private final int[] edgeMinZ;
+        private final int[] edgeMaxZ;
+
+        // Axis-aligned bounding box of all vertices
+        private final int minX;
+        private final int maxX;
+        private final int minZ;
+        private final int maxZ;
+
+        private Geometry(@NotNull List<BlockPos> points) {
+            int n = points.size();
+            edgeCount = n;
+            startX = new int[n];
+            startZ = new int[n];
+            deltaX = new long[n];
+            deltaZ = new long[n];
+            lengthSquared = new long[n];
+            edgeMinX = new int[n];
+            edgeMaxX = new int[n];
+            edgeMinZ = new int[n];
+            edgeMaxZ = new int[n];
+
+            int boundsMinX = Integer.MAX_VALUE;
+            int boundsMaxX = Integer.MIN_VALUE;
+            int boundsMinZ = Integer.MAX_VALUE;
+            int boundsMaxZ = Integer.MIN_VALUE;
+
+            for (int i = 0; i < n; i++) {
+                BlockPos from = points.get(i);
+                BlockPos to = points.get((i + 1) % n); // Next vertex (wrapping to 0 for last vertex)
+
+                long dx = (long) to.getX() - from.getX();
+                long dz = (long) to.getZ() - from.getZ();
+
+                startX[i] = from.getX();
+                startZ[i] = from.getZ();
+                deltaX[i] = dx;
+                deltaZ[i] = dz;
+                lengthSquared[i] = dx * dx + dz * dz;
+                edgeMinX[i] = Math.min(from.getX(), to.getX());
+                edgeMaxX[i] = Math.max(from.getX(), to.getX());
+                edgeMinZ[i] = Math.min(from.getZ(), to.getZ());
+                edgeMaxZ[i] = Math.max(from.getZ(), to.getZ());
+
+                boundsMinX = Math.min(boundsMinX, from.getX());
+                boundsMaxX = Math.max(boundsMaxX, from.getX());
+                boundsMinZ = Math.min(boundsMinZ, from.getZ());
+                boundsMaxZ = Math.max(boundsMaxZ, from.getZ());
+            }
+
+            minX = boundsMinX;
+            maxX = boundsMaxX;
+            minZ = boundsMinZ;
+            maxZ = boundsMaxZ;
+        }
+
+        /**
+         * Runs the fused edge and ray-casting pass for a block column.
+         * A column lying on any edge is inside; otherwise the parity of
+         * crossings of a ray towards +X decides.
+         */
+        private boolean contains(int x, int z) {
+            // Edge hits and crossings both require the column within the bounds
+            if (x < minX || x > maxX || z < minZ || z > maxZ) {
+                return false;
+            }
+
+            boolean inside = false;
+            for (int i = 0; i < edgeCount; i++) {
+                // Neither an edge hit nor a crossing is possible outside the edge's Z extent
+                if (z < edgeMinZ[i] || z > edgeMaxZ[i]) {
+                    continue;
+                }
+
+                long relX = (long) x - startX[i];
+                long relZ = (long) z - startZ[i];
+                long dx = deltaX[i];
+                long dz = deltaZ[i];
+                long cross = relX * dz - relZ * dx;
+
+                if (isOnEdge(relX, relZ, dx, dz, cross, lengthSquared[i])) {
+                    return true;
+                }
+
+                // The edge straddles the ray and the ray starts left of the intersection
+                if ((relZ < 0) != (relZ - dz < 0) && (dz > 0 ? cross < 0 : cross > 0)) {
+                    inside = !inside;
+                }
+            }
+
+            return inside;
+        }
+
+        /**
+         * Computes the distance from a column to the nearest edge, up to
+         * maxDistance, and decides containment in the same pass, using the
+         * same crossing rule and edge tolerance as {@link #contains(int, int)}.
+         * Edges whose extents are farther away than the nearest edge so far
+         * (or maxDistance) are skipped, and only edges spanning the column's Z
+         * coordinate are tested for a crossing; otherwise squared distances
+         * stay in integer math except for the perpendicular case, which
+         * divides by the edge's squared length.
+         */
+        private double signedDistance(int x, int z, double maxDistance) {
+            double minDistanceSquared = maxDistance * maxDistance;
+            boolean inside = false;
+            for (int i = 0; i < edgeCount; i++) {
+                // No point of the edge is closer than its extents
+                long gapX = Math.max(0L, Math.max((long) edgeMinX[i] - x, (long) x - edgeMaxX[i]));
+                long gapZ = Math.max(0L, Math.max((long) edgeMinZ[i] - z, (long) z - edgeMaxZ[i]));
+                boolean spansZ = gapZ == 0;
+                boolean tooFar = gapX * gapX + gapZ * gapZ >= minDistanceSquared;
+                if (tooFar && !spansZ) {
+                    continue;
+                }
+
+                long relX = (long) x - startX[i];
+                long relZ = (long) z - startZ[i];
+                long dx = deltaX[i];
+                long dz = deltaZ[i];
+                long cross = relX * dz - relZ * dx;
+
+                if (spansZ && (relZ < 0) != (relZ - dz < 0) && (dz > 0 ? cross < 0 : cross > 0)) {
+                    inside = !inside;
+                }
+                if (tooFar) {
+                    continue;
+                }
+
+                long projection = relX * dx + relZ * dz;
+                double distanceSquared;
+                if (projection <= 0) {
+                    // Closest point is the start vertex
+                    distanceSquared = relX * relX + relZ * relZ;
+                } else if (projection >= lengthSquared[i]) {
+                    // Closest point is the end vertex
+                    long endX = relX - dx;
+                    long endZ = relZ - dz;
+                    distanceSquared = endX * endX + endZ * endZ;
+                } else {
+                    // Squared distance to the line; squared in double as the cross product may be large
+                    distanceSquared = (double) cross * cross / lengthSquared[i];
+                }
+                minDistanceSquared = Math.min(minDistanceSquared, distanceSquared);
+            }
+
+            double distance = Math.sqrt(minDistanceSquared);
+            // Columns within the edge tolerance count as inside, as in contains
+            return inside || minDistanceSquared * EDGE_TOLERANCE_INVERSE < 1.0 ? -distance : distance;
+        }
+
+        /**
+         * Checks whether a column, given relative to the edge start, lies within
+         * the edge tolerance of the segment.
+         */
+        private static boolean isOnEdge(long relX, long relZ, long dx, long dz, long cross, long lengthSquared) {
+            long projection = relX * dx + relZ * dz;
+            if (projection <= 0) {
+                // Closest point is the start vertex; integer distances are either 0 or >= 1
+                return relX == 0 && relZ == 0;
+            }
+            if (projection >= lengthSquared) {
+                // Closest point is the end vertex
+                return relX == dx && relZ == dz;
+            }
+            // Squared distance to the line is cross^2 / lengthSquared
+            return Math.abs(cross) < MAX_EDGE_CROSS
+                    && cross * cross * EDGE_TOLERANCE_INVERSE < lengthSquared;
+        }
     }
-}
\ No newline at end of file
+}
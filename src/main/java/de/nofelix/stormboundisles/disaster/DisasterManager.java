@@ -7,9 +7,13 @@ import de.nofelix.stormboundisles.data.Island;
 import de.nofelix.stormboundisles.data.IslandType;
 import de.nofelix.stormboundisles.game.ActionbarNotifier;
 import de.nofelix.stormboundisles.init.Initialize;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import de.nofelix.stormboundisles.jfr.DisasterExpireEvent;
+import de.nofelix.stormboundisles.jfr.DisasterTriggerEvent;
+import de.nofelix.stormboundisles.location.PlayerLocationTracker;
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.TickScheduler;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.MinecraftServer;
@@ -20,11 +24,8 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -47,8 +48,6 @@ public final class DisasterManager {
 
     // Constants
     private static final Logger LOGGER = StormboundIslesMod.LOGGER;
-    private static final String DISASTER_KEY_SEPARATOR = ":";
-    private static final long MILLISECONDS_PER_TICK = 50L;
 
     // Island type to disaster mappings
     private static final Map<IslandType, DisasterType[]> ISLAND_DISASTER_TYPES = Map.of(
@@ -67,9 +66,8 @@ public final class DisasterManager {
             DisasterType.CRYSTAL_STORM, DisasterManager::applyCrystalStormEffect);
 
     // State management
-    private static int tickCounter = 0;
-    private static final Set<String> activeDisasters = new HashSet<>();
-    private static final Object2LongMap<String> disasterExpirationTimes = new Object2LongOpenHashMap<>();
+    private static final DisasterStateTable activeDisasters = new DisasterStateTable();
+    private static final Counter TRIGGERS = Metrics.counter("disaster.triggered");
 
     private DisasterManager() {
     }
@@ -77,13 +75,24 @@ public final class DisasterManager {
     // Initialization
 
     /**
-     * Initializes the DisasterManager and registers server tick event listeners.
+     * Initializes the DisasterManager and schedules its tick tasks.
      * This method is automatically called during mod initialization.
      */
-    @Initialize(priority = 1500)
+    @Initialize(priority = 1500, dependsOn = "ConfigManager.loadConfig")
     public static void initialize() {
         LOGGER.info("Initializing DisasterManager...");
-        ServerTickEvents.END_SERVER_TICK.register(DisasterManager::onServerTick);
+        // Pending expiries are dropped with the server's timing wheel
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> activeDisasters.clear());
+        Metrics.gauge("disaster.active", activeDisasters::getActiveCount);
+        TickScheduler.schedule("disaster-roll", ConfigManager::getDisasterIntervalTicks,
+                DisasterManager::triggerRandomDisaster);
+        // The roll task reads the interval on every tick; active disasters keep their duration
+        ConfigManager.addChangeListener((previous, current) -> {
+            if (previous.disasterIntervalTicks() != current.disasterIntervalTicks()) {
+                LOGGER.info("Disaster interval changed from {}t to {}t",
+                        previous.disasterIntervalTicks(), current.disasterIntervalTicks());
+            }
+        });
         LOGGER.info("DisasterManager initialized successfully");
     }
 
@@ -113,22 +122,27 @@ public final class DisasterManager {
             return false;
         }
 
-        String disasterKey = createDisasterKey(islandId, type);
-        if (activeDisasters.contains(disasterKey)) {
+        // Register the disaster as active until its cooldown has passed in game ticks
+        DisasterStateTable.ActiveDisaster disaster = activeDisasters.activate(islandId, type,
+                active -> TickScheduler.runLater(ConfigManager.getDisasterCooldownTicks(),
+                        () -> expireDisaster(active)));
+        if (disaster == null) {
             LOGGER.debug("Disaster {} already active on island '{}'", type, islandId);
             return false;
         }
 
-        // Register the disaster as active with expiration time
-        long expirationTime = calculateExpirationTime();
-        activeDisasters.add(disasterKey);
-        disasterExpirationTimes.put(disasterKey, expirationTime);
-
         LOGGER.info("Triggering disaster: {} on island: {}", type, islandId);
+        TRIGGERS.increment();
 
         // Broadcast and apply effects
+        DisasterTriggerEvent event = new DisasterTriggerEvent();
+        event.begin();
         broadcastDisasterAlert(server, islandId, type);
-        applyDisasterToPlayersOnIsland(server, island, type);
+        int affected = applyDisasterToPlayersOnIsland(server, island, type);
+        if (event.shouldCommit()) {
+            event.set(islandId, type.name(), affected);
+            event.commit();
+        }
 
         return true;
     }
@@ -154,20 +168,17 @@ public final class DisasterManager {
             return false;
         }
 
-        Set<String> disastersToRemove = findActiveDisastersForIsland(islandId);
-        if (disastersToRemove.isEmpty()) {
+        int cancelled = activeDisasters.cancelAll(islandId);
+        if (cancelled == 0) {
             LOGGER.debug("No active disasters found on island '{}'", islandId);
             return false;
         }
 
-        // Remove all found disaster keys
-        removeDisasters(disastersToRemove);
-
         // Notify players and broadcast
         notifyPlayersOfDisasterCancellation(server, island, islandId);
         broadcastDisasterCancellation(server, islandId);
 
-        LOGGER.info("Cancelled {} disasters on island: {}", disastersToRemove.size(), islandId);
+        LOGGER.info("Cancelled {} disasters on island: {}", cancelled, islandId);
         return true;
     }
 
@@ -177,7 +188,7 @@ public final class DisasterManager {
      * @return The number of active disasters across all islands
      */
     public static int getActiveDisasterCount() {
-        return activeDisasters.size();
+        return activeDisasters.getActiveCount();
     }
 
     /**
@@ -190,7 +201,7 @@ public final class DisasterManager {
      */
     public static boolean isDisasterActive(@NotNull String islandId, @NotNull DisasterType type) {
         validateIslandIdAndType(islandId, type);
-        return activeDisasters.contains(createDisasterKey(islandId, type));
+        return activeDisasters.isActive(islandId, type);
     }
 
     // Private helper methods
@@ -230,60 +241,22 @@ public final class DisasterManager {
         }
     }
 
-    /**
-     * Creates a unique key for tracking active disasters.
-     */
-    @NotNull
-    private static String createDisasterKey(@NotNull String islandId, @NotNull DisasterType type) {
-        return islandId + DISASTER_KEY_SEPARATOR + type;
-    }
-
-    /**
-     * Calculates when a disaster should expire.
-     */
-    private static long calculateExpirationTime() {
-        return System.currentTimeMillis() +
-                (ConfigManager.getDisasterCooldownTicks() * MILLISECONDS_PER_TICK);
-    }
-
-    /**
-     * Finds all active disasters for a specific island.
-     */
-    @NotNull
-    private static Set<String> findActiveDisastersForIsland(@NotNull String islandId) {
-        Set<String> disastersToRemove = new HashSet<>();
-        String prefix = islandId + DISASTER_KEY_SEPARATOR;
-
-        for (String key : activeDisasters) {
-            if (key.startsWith(prefix)) {
-                disastersToRemove.add(key);
-            }
-        }
-
-        return disastersToRemove;
-    }
-
-    /**
-     * Removes a set of disasters from active tracking.
-     */
-    private static void removeDisasters(@NotNull Set<String> disastersToRemove) {
-        for (String key : disastersToRemove) {
-            activeDisasters.remove(key);
-            disasterExpirationTimes.removeLong(key);
-        }
-    }
-
     /**
      * Applies disaster effects to all players on an island.
+     *
+     * @return The number of players affected
      */
-    private static void applyDisasterToPlayersOnIsland(@NotNull MinecraftServer server,
+    private static int applyDisasterToPlayersOnIsland(@NotNull MinecraftServer server,
             @NotNull Island island, @NotNull DisasterType type) {
+        int affected = 0;
         for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            if (island.getZone().contains(player.getBlockPos())) {
+            if (PlayerLocationTracker.isOnIsland(player, island)) {
                 notifyPlayerOfDisaster(player, type);
                 applyDisasterEffect(player, type, server);
+                affected++;
             }
         }
+        return affected;
     }
 
     /**
@@ -296,7 +269,7 @@ public final class DisasterManager {
         }
 
         for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            if (island.getZone().contains(player.getBlockPos())) {
+            if (PlayerLocationTracker.isOnIsland(player, island)) {
                 ActionbarNotifier.send(player, "§aDisaster on " + islandId + " has subsided!");
             }
         }
@@ -374,37 +347,12 @@ public final class DisasterManager {
     // Server tick handling
 
     /**
-     * Called every server tick via the registered event listener.
-     * Performs disaster lifecycle management and random disaster triggering.
+     * Removes a disaster once its cooldown has passed. Called by the timing wheel.
      */
-    private static void onServerTick(@NotNull MinecraftServer server) {
-        // Check for expired disasters
-        checkExpiredDisasters();
-
-        // Periodic random disaster triggering
-        tickCounter++;
-        if (tickCounter >= ConfigManager.getDisasterIntervalTicks()) {
-            tickCounter = 0;
-            triggerRandomDisaster(server);
-        }
-    }
-
-    /**
-     * Removes any disasters that have passed their expiration time.
-     */
-    private static void checkExpiredDisasters() {
-        long currentTime = System.currentTimeMillis();
-        Iterator<Object2LongMap.Entry<String>> iterator = disasterExpirationTimes.object2LongEntrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Object2LongMap.Entry<String> entry = iterator.next();
-            if (currentTime > entry.getLongValue()) {
-                String key = entry.getKey();
-                activeDisasters.remove(key);
-                iterator.remove(); // Safe removal during iteration
-
-                LOGGER.debug("Disaster expired: {}", key);
-            }
+    private static void expireDisaster(@NotNull DisasterStateTable.ActiveDisaster disaster) {
+        if (activeDisasters.expire(disaster)) {
+            LOGGER.debug("Disaster expired: {}", disaster);
+            DisasterExpireEvent.emit(disaster.getIslandId(), disaster.getType().name());
         }
     }
 
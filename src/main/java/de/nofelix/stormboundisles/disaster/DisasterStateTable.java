@@ -0,0 +1,168 @@
+package de.nofelix.stormboundisles.disaster;
+
+import de.nofelix.stormboundisles.tick.TimingWheel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Active disaster state, grouped per island.
+ *
+ * Each island that has seen a disaster owns one {@link IslandDisasters}
+ * entry holding its active disasters in an EnumMap, so triggering, querying,
+ * cancelling and expiring a disaster are O(1) lookups without building
+ * string keys. The total number of active disasters is kept as a counter.
+ *
+ * Owned by {@link DisasterManager}; not thread-safe, use it from the server
+ * thread only.
+ */
+final class DisasterStateTable {
+
+    // Island ID -> disaster state; entries are kept once created and reused
+    private final Map<String, IslandDisasters> islands = new HashMap<>();
+    private int activeCount = 0;
+
+    /**
+     * Checks whether a disaster type is active on an island.
+     *
+     * @param islandId The island ID
+     * @param type     The disaster type
+     * @return true if the disaster is active
+     */
+    boolean isActive(@NotNull String islandId, @NotNull DisasterType type) {
+        IslandDisasters state = islands.get(islandId);
+        return state != null && state.active.containsKey(type);
+    }
+
+    /**
+     * Marks a disaster as active unless it already is.
+     *
+     * @param islandId        The island ID
+     * @param type            The disaster type
+     * @param expiryScheduler Schedules the expiry of the new disaster and returns its handle
+     * @return The new disaster, or null if the type was already active on the island
+     */
+    @Nullable
+    ActiveDisaster activate(@NotNull String islandId, @NotNull DisasterType type,
+            @NotNull Function<ActiveDisaster, TimingWheel.Timeout> expiryScheduler) {
+        IslandDisasters state = islands.computeIfAbsent(islandId, IslandDisasters::new);
+        if (state.active.containsKey(type)) {
+            return null;
+        }
+
+        ActiveDisaster disaster = new ActiveDisaster(state.islandId, type);
+        disaster.expiry = expiryScheduler.apply(disaster);
+        state.active.put(type, disaster);
+        activeCount++;
+        return disaster;
+    }
+
+    /**
+     * Removes a disaster whose expiry has run. Does nothing if the disaster
+     * was cancelled in the meantime.
+     *
+     * @param disaster The expired disaster
+     * @return true if the disaster was still active
+     */
+    boolean expire(@NotNull ActiveDisaster disaster) {
+        IslandDisasters state = islands.get(disaster.islandId);
+        if (state == null || !state.active.remove(disaster.type, disaster)) {
+            return false;
+        }
+        activeCount--;
+        return true;
+    }
+
+    /**
+     * Cancels every active disaster on an island.
+     *
+     * @param islandId The island ID
+     * @return The number of disasters cancelled
+     */
+    int cancelAll(@NotNull String islandId) {
+        IslandDisasters state = islands.get(islandId);
+        if (state == null || state.active.isEmpty()) {
+            return 0;
+        }
+
+        int cancelled = state.active.size();
+        for (ActiveDisaster disaster : state.active.values()) {
+            disaster.cancelExpiry();
+        }
+        state.active.clear();
+        activeCount -= cancelled;
+        return cancelled;
+    }
+
+    /**
+     * Forgets all disasters without running or cancelling their expiries.
+     */
+    void clear() {
+        islands.clear();
+        activeCount = 0;
+    }
+
+    /**
+     * @return The number of active disasters across all islands
+     */
+    int getActiveCount() {
+        return activeCount;
+    }
+
+    // Inner classes
+
+    /**
+     * A disaster that is active on an island until its expiry runs.
+     */
+    static final class ActiveDisaster {
+        @NotNull
+        private final String islandId;
+        @NotNull
+        private final DisasterType type;
+        @Nullable
+        private TimingWheel.Timeout expiry;
+
+        private ActiveDisaster(@NotNull String islandId, @NotNull DisasterType type) {
+            this.islandId = islandId;
+            this.type = type;
+        }
+
+        @NotNull
+        String getIslandId() {
+            return islandId;
+        }
+
+        @NotNull
+        DisasterType getType() {
+            return type;
+        }
+
+        private void cancelExpiry() {
+            if (expiry != null) {
+                expiry.cancel();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return type + " on " + islandId;
+        }
+    }
+
+    /**
+     * The active disasters of a single island.
+     */
+    private static final class IslandDisasters {
+        @NotNull
+        private final String islandId;
+        private final EnumMap<DisasterType, ActiveDisaster> active = new EnumMap<>(DisasterType.class);
+
+        private IslandDisasters(@NotNull String islandId) {
+            this.islandId = islandId;
+        }
+    }
+}
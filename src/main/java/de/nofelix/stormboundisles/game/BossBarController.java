@@ -0,0 +1,142 @@
+package de.nofelix.stormboundisles.game;
+
+import de.nofelix.stormboundisles.config.ConfigManager;
+import net.minecraft.entity.boss.BossBar;
+import net.minecraft.entity.boss.ServerBossBar;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Owns a single server boss bar and only sends updates that players can see.
+ *
+ * Progress is rounded to the configured quantum before it is compared with
+ * the value last sent, so a slowly draining bar (e.g. a week-long phase)
+ * causes one update per visible step instead of one per tick. Titles are
+ * compared as strings and only re-sent when they change. The bar is created
+ * once and updated in place; hiding it removes its players, and showing it
+ * again reuses it.
+ *
+ * Example usage:
+ * ```java
+ * BossBarController bar = new BossBarController();
+ * bar.show("Build Phase", BossBar.Color.GREEN, 1.0f, server);
+ * bar.setProgress(0.42f);
+ * bar.addPlayer(joiningPlayer);
+ * ```
+ */
+public final class BossBarController {
+
+    @Nullable
+    private ServerBossBar bar;
+    // State last sent to players
+    @Nullable
+    private String shownTitle;
+    private float shownProgress = Float.NaN;
+
+    /**
+     * Shows the bar with the given state to all online players, creating it
+     * on first use.
+     *
+     * @param title    The title to display
+     * @param color    The bar color
+     * @param progress The progress in [0, 1]
+     * @param server   The server whose players should see the bar
+     */
+    public void show(@NotNull String title, @NotNull BossBar.Color color, float progress,
+            @NotNull MinecraftServer server) {
+        if (bar == null) {
+            bar = new ServerBossBar(Text.literal(title), color, BossBar.Style.PROGRESS);
+            bar.setDarkenSky(false);
+            bar.setThickenFog(false);
+            bar.setDragonMusic(false);
+            shownTitle = title;
+        }
+
+        setTitle(title);
+        bar.setColor(color); // Only sent if changed
+        setProgress(progress);
+        bar.setVisible(true);
+
+        // Players who already see the bar are skipped by ServerBossBar
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            bar.addPlayer(player);
+        }
+    }
+
+    /**
+     * Hides the bar from all players. The bar keeps its state for the next
+     * {@link #show}.
+     */
+    public void hide() {
+        if (bar != null) {
+            bar.clearPlayers();
+            bar.setVisible(false);
+        }
+    }
+
+    /**
+     * Updates the title if it differs from the one shown.
+     *
+     * @param title The title to display
+     */
+    public void setTitle(@NotNull String title) {
+        if (bar != null && !title.equals(shownTitle)) {
+            bar.setName(Text.literal(title));
+            shownTitle = title;
+        }
+    }
+
+    /**
+     * Updates the progress if it moved by at least one quantum.
+     *
+     * @param progress The progress in [0, 1]
+     */
+    public void setProgress(float progress) {
+        float quantized = quantize(progress, ConfigManager.getGameBossBarProgressQuantum());
+        if (bar != null && quantized != shownProgress) {
+            bar.setPercent(quantized);
+            shownProgress = quantized;
+        }
+    }
+
+    /**
+     * Shows the bar in its current state to a player, e.g. one who just
+     * joined. Does nothing while the bar is hidden.
+     *
+     * @param player The player to add
+     */
+    public void addPlayer(@NotNull ServerPlayerEntity player) {
+        if (bar != null && bar.isVisible()) {
+            bar.addPlayer(player);
+        }
+    }
+
+    /**
+     * Stops showing the bar to a player, e.g. one who disconnected.
+     *
+     * @param player The player to remove
+     */
+    public void removePlayer(@NotNull ServerPlayerEntity player) {
+        if (bar != null) {
+            bar.removePlayer(player);
+        }
+    }
+
+    /**
+     * Rounds progress to the nearest multiple of the quantum within [0, 1].
+     *
+     * @param progress The raw progress
+     * @param quantum  The step size; values of 0 or below disable rounding
+     * @return The quantized progress
+     */
+    static float quantize(float progress, float quantum) {
+        float clamped = Math.clamp(progress, 0.0f, 1.0f);
+        if (quantum <= 0) {
+            return clamped;
+        }
+        return Math.clamp(Math.round(clamped / quantum) * quantum, 0.0f, 1.0f);
+    }
+}
@@ -3,24 +3,17 @@ package de.nofelix.stormboundisles.game;
 import de.nofelix.stormboundisles.StormboundIslesMod;
 import de.nofelix.stormboundisles.config.ConfigManager;
 import de.nofelix.stormboundisles.data.DataManager;
-import de.nofelix.stormboundisles.data.Island;
-import de.nofelix.stormboundisles.data.Team;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import de.nofelix.stormboundisles.jfr.PhaseChangeEvent;
+import de.nofelix.stormboundisles.tick.TickScheduler;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.entity.boss.BossBar;
-import net.minecraft.entity.boss.ServerBossBar;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.GameMode;
 import net.minecraft.world.GameRules;
 
-import java.util.Random;
-import java.util.UUID;
-
 /**
  * Manages the overall game flow, including phases, timers, player states, and
  * game events.
@@ -32,8 +25,8 @@ public class GameManager {
     private static int phaseTicks = 0;
 
     // BossBar related fields
-    /** The server-side BossBar instance used to display phase information. */
-    private static ServerBossBar phaseBar;
+    /** The boss bar displaying phase information, updated in place. */
+    private static final BossBarController phaseBar = new BossBarController();
 
     // Countdown related fields
     /** Flag indicating if the pre-game countdown is active. */
@@ -41,26 +34,20 @@ public class GameManager {
     /** Remaining ticks in the pre-game countdown. */
     private static int countdownTicks = 0;
 
-    /** Random number generator for various game mechanics. */
-    private static final Random random = new Random();
-
     /**
      * Registers game manager event listeners.
-     * Initializes BossBar restoration on server start and registers the server tick
-     * listener.
+     * Initializes BossBar restoration on server start and schedules the per-tick
+     * game loop.
      */
     public static void register() {
         StormboundIslesMod.LOGGER.info("Registering GameManager");
         // Restore bossbar on server start when loading from game_state
         ServerLifecycleEvents.SERVER_STARTED.register(GameManager::setupBossBar);
-        ServerTickEvents.END_SERVER_TICK.register(GameManager::onServerTick);
+        TickScheduler.everyTick("game-loop", GameManager::onServerTick);
 
-        // Add player to bossbar when they join
-        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
-            if (phaseBar != null && phase != GamePhase.ENDED) {
-                phaseBar.addPlayer(handler.getPlayer());
-            }
-        });
+        // Show the current bossbar to joining players; it is hidden while there is nothing to show
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> phaseBar.addPlayer(handler.getPlayer()));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> phaseBar.removePlayer(handler.getPlayer()));
     }
 
     /**
@@ -98,6 +85,9 @@ public class GameManager {
         isStarting = true;
         countdownTicks = ConfigManager.getGameCountdownDurationTicks();
         setupBossBar(server);
+        // Load spawn chunks and find safe spawn positions while the countdown runs
+        IslandTeleporter.preloadSpawnChunks(server);
+        SpawnCandidateService.prepare(DataManager.getIslands().values());
         server.getPlayerManager()
                 .broadcast(Text.literal(
                         "Game starting in " + (ConfigManager.getGameCountdownDurationTicks() / 20) + " seconds..."),
@@ -106,8 +96,8 @@ public class GameManager {
 
     /**
      * Starts the game, transitioning to the BUILD phase.
-     * Teleports players, sets game mode, broadcasts messages, and initializes the
-     * scoreboard.
+     * Queues the teleports to the islands, sets game mode, broadcasts messages,
+     * and initializes the scoreboard. The teleports run over the next ticks.
      * 
      * @param server The Minecraft server instance.
      */
@@ -115,7 +105,7 @@ public class GameManager {
         StormboundIslesMod.LOGGER.info("Starting game");
         setPhase(GamePhase.BUILD, server);
         phaseTicks = 0;
-        teleportPlayersToIslands(server);
+        IslandTeleporter.start(server);
         setAllPlayersGameMode(server, GameMode.SURVIVAL);
         server.getPlayerManager().broadcast(Text.literal("Game started! Build phase begins."), false);
 
@@ -132,23 +122,11 @@ public class GameManager {
     public static void stopGame(MinecraftServer server) {
         StormboundIslesMod.LOGGER.info("Stopping game");
         setPhase(GamePhase.ENDED, server);
+        IslandTeleporter.cancel(server);
         setAllPlayersGameMode(server, GameMode.ADVENTURE);
         server.getPlayerManager().broadcast(Text.literal("Game stopped."), false);
 
-        // Remove bossbar completely - not just hide it
-        removeBossBar();
-    }
-
-    /**
-     * Completely removes the current BossBar if it exists.
-     * This prevents ghost/duplicate BossBars from appearing.
-     */
-    private static void removeBossBar() {
-        if (phaseBar != null) {
-            phaseBar.clearPlayers();
-            phaseBar.setVisible(false);
-            phaseBar = null;
-        }
+        phaseBar.hide();
     }
 
     /**
@@ -161,12 +139,13 @@ public class GameManager {
      */
     public static void setPhase(GamePhase newPhase, MinecraftServer server) {
         StormboundIslesMod.LOGGER.info("Changing phase from {} to {}", phase, newPhase);
+        PhaseChangeEvent.emit(phase, newPhase);
         phase = newPhase;
         phaseTicks = 0;
 
         // Update bossbar and persist
         setupBossBar(server);
-        DataManager.saveGameState();
+        DataManager.markDirty();
 
         switch (phase) {
             case LOBBY, ENDED:
@@ -186,81 +165,69 @@ public class GameManager {
     }
 
     /**
-     * Sets up or updates the phase BossBar.
-     * Creates the BossBar if it doesn't exist and adds all online players.
+     * Sets up or updates the phase BossBar in place.
+     * Shows the BossBar to all online players, or hides it in the ENDED phase.
      * Configures the BossBar's appearance based on the current game state.
      * 
      * @param server The Minecraft server instance.
      */
     public static void setupBossBar(MinecraftServer server) {
-        // Remove existing BossBar to prevent duplicates
-        removeBossBar();
-
-        // Don't create a BossBar in ENDED phase unless we're starting a countdown
+        // Don't show a BossBar in ENDED phase unless we're starting a countdown
         if (phase == GamePhase.ENDED && !isStarting) {
+            phaseBar.hide();
             return;
         }
 
-        // Create new BossBar with current phase settings
-        phaseBar = new ServerBossBar(
-                getBossBarTitle(), // Title based on current game phase
-                getBossBarColor(), // Color based on current game phase
-                BossBar.Style.PROGRESS // Style
-        );
-
-        // Set initial progress based on current phase
-        if (isStarting) {
-            phaseBar.setPercent((float) countdownTicks / ConfigManager.getGameCountdownDurationTicks());
-        } else if (phase == GamePhase.BUILD && phaseTicks > 0) {
-            phaseBar.setPercent(1.0f - ((float) phaseTicks / ConfigManager.getGameBuildPhaseTicks()));
-        } else if (phase == GamePhase.PVP && phaseTicks > 0) {
-            phaseBar.setPercent(1.0f - ((float) phaseTicks / ConfigManager.getGamePvpPhaseTicks()));
-        } else {
-            phaseBar.setPercent(1.0f);
-        }
-
-        phaseBar.setVisible(true); // Activate visibility
-        phaseBar.setDarkenSky(false); // Don't darken the sky
-        phaseBar.setThickenFog(false); // Don't thicken the fog
-        phaseBar.setDragonMusic(false); // Disable dragon music
-
-        // Add all players to the BossBar
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            phaseBar.addPlayer(player);
-        }
+        phaseBar.show(getBossBarTitle(), getBossBarColor(), getBossBarProgress(), server);
     }
 
     /**
-     * Gets the appropriate title text for the BossBar based on the current game
+     * Gets the appropriate title for the BossBar based on the current game
      * phase.
      * 
-     * @return The Text object representing the BossBar title.
+     * @return The BossBar title.
      */
-    private static Text getBossBarTitle() {
+    private static String getBossBarTitle() {
         if (isStarting) {
             int seconds = countdownTicks / 20;
-            return Text.literal("Starting in " + seconds + "s");
+            return "Starting in " + seconds + "s";
         }
 
         if (phase == GamePhase.BUILD && phaseTicks > 0) {
             int remainingMinutes = (ConfigManager.getGameBuildPhaseTicks() - phaseTicks) / (20 * 60);
-            return Text.literal("Build Phase - " + formatTime(remainingMinutes));
+            return "Build Phase - " + formatTime(remainingMinutes);
         }
 
         if (phase == GamePhase.PVP && phaseTicks > 0) {
             int remainingMinutes = (ConfigManager.getGamePvpPhaseTicks() - phaseTicks) / (20 * 60);
-            return Text.literal("PvP Phase - " + formatTime(remainingMinutes));
+            return "PvP Phase - " + formatTime(remainingMinutes);
         }
 
         return switch (phase) {
-            case LOBBY -> Text.literal("Lobby Phase - Waiting to start");
-            case BUILD -> Text.literal("Build Phase - PvP disabled");
-            case PVP -> Text.literal("PvP Phase - Battle!");
-            case ENDED -> Text.literal("Game Ended");
-            default -> Text.literal("Unknown Phase");
+            case LOBBY -> "Lobby Phase - Waiting to start";
+            case BUILD -> "Build Phase - PvP disabled";
+            case PVP -> "PvP Phase - Battle!";
+            case ENDED -> "Game Ended";
+            default -> "Unknown Phase";
         };
     }
 
+    /**
+     * Gets the BossBar progress for the current countdown or phase.
+     * 
+     * @return The progress in [0, 1].
+     */
+    private static float getBossBarProgress() {
+        if (isStarting) {
+            return (float) countdownTicks / ConfigManager.getGameCountdownDurationTicks();
+        } else if (phase == GamePhase.BUILD && phaseTicks > 0) {
+            return 1.0f - ((float) phaseTicks / ConfigManager.getGameBuildPhaseTicks());
+        } else if (phase == GamePhase.PVP && phaseTicks > 0) {
+            return 1.0f - ((float) phaseTicks / ConfigManager.getGamePvpPhaseTicks());
+        }
+        return 1.0f;
+    }
+
     /**
      * Gets the appropriate color for the BossBar based on the current game phase.
      * 
@@ -310,107 +277,6 @@ public class GameManager {
         }
     }
 
-    /**
-     * Finds a random, clear spawn position near the island's defined spawn point.
-     * Attempts multiple random locations before falling back to the exact spawn
-     * point.
-     * 
-     * @param island The island to spawn on.
-     * @param world  The server world.
-     * @return A suitable BlockPos for spawning.
-     */
-    private static BlockPos getRandomSpawnPosition(Island island, ServerWorld world) {
-        // Try up to 10 random positions within 10-block radius
-        for (int i = 0; i < 10; i++) {
-            double angle = random.nextDouble() * 2 * Math.PI;
-            double dist = random.nextDouble() * 10;
-            int x = island.getSpawnX() + (int) Math.round(Math.cos(angle) * dist);
-            int z = island.getSpawnZ() + (int) Math.round(Math.sin(angle) * dist);
-            int y = island.getSpawnY();
-            if (isAreaClear(world, x, y, z, 10)) {
-                return new BlockPos(x + 1, y, z + 1);
-            }
-        }
-        // Fallback to exact spawn
-        return new BlockPos(island.getSpawnX() + 1, island.getSpawnY(), island.getSpawnZ() + 1);
-    }
-
-    /**
-     * Checks if a cylindrical area around a center point is clear for spawning.
-     * Verifies that the ground block is solid and the space above is air.
-     * 
-     * @param world  The server world.
-     * @param cx     Center X coordinate.
-     * @param cy     Center Y coordinate (spawn height).
-     * @param cz     Center Z coordinate.
-     * @param radius The radius of the area to check.
-     * @return True if the area is clear, false otherwise.
-     */
-    private static boolean isAreaClear(ServerWorld world, int cx, int cy, int cz, int radius) {
-        int r2 = radius * radius;
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dz = -radius; dz <= radius; dz++) {
-                if (dx * dx + dz * dz <= r2) {
-                    BlockPos ground = new BlockPos(cx + dx, cy - 1, cz + dz);
-                    BlockPos pos = new BlockPos(cx + dx, cy, cz + dz);
-                    if (!world.getBlockState(ground).isSolidBlock(world, ground) ||
-                            !world.getBlockState(pos).isAir()) {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Teleports all players belonging to teams to their assigned island's spawn
-     * point.
-     * Uses the custom spawn point if defined, otherwise logs an error.
-     * 
-     * @param server The Minecraft server instance.
-     */
-    private static void teleportPlayersToIslands(MinecraftServer server) {
-        StormboundIslesMod.LOGGER.info("Teleporting players to their islands");
-
-        for (Team team : DataManager.getTeams().values()) {
-            if (team.getIslandId() == null) {
-                StormboundIslesMod.LOGGER.warn("Team {} has no assigned island, skipping teleport", team.getName());
-                continue;
-            }
-
-            Island island = DataManager.getIsland(team.getIslandId());
-            if (island == null || island.getZone() == null) {
-                StormboundIslesMod.LOGGER.warn("Island {} not found or has no defined zone", team.getIslandId());
-                continue;
-            }
-
-            for (UUID uuid : team.getMembers()) {
-                ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
-                if (player != null) {
-                    // Determine teleport target: use custom spawn if defined, else center of zone
-                    BlockPos target;
-                    if (island.getSpawnY() >= 0) {
-                        target = getRandomSpawnPosition(island, server.getOverworld());
-                    } else {
-                        StormboundIslesMod.LOGGER.error(
-                                "Island {} has no defined spawn position, unable to teleport player", island.getId());
-                        // broadcast message to all players
-                        server.getPlayerManager()
-                                .broadcast(Text.literal("Island " + island.getId()
-                                        + " has no defined spawn position, unable to teleport " + player.getName()),
-                                        false);
-                        // skip teleportation for this player
-                        continue;
-                    }
-                    player.teleport(server.getOverworld(),
-                            target.getX(), target.getY(), target.getZ(),
-                            player.getYaw(), player.getPitch());
-                }
-            }
-        }
-    }
-
     /**
      * Handles per-tick game logic, including countdowns and phase transitions.
      * Updates the phase timer BossBar and persists game state periodically.
@@ -418,16 +284,18 @@ public class GameManager {
      * @param server The Minecraft server instance.
      */
     private static void onServerTick(MinecraftServer server) {
+        // Spread the start-of-game teleports over several ticks
+        IslandTeleporter.tick(server);
+
         // Handle pre-game countdown
         if (isStarting) {
             if (countdownTicks > 0) {
                 countdownTicks--;
-                // Update BossBar progress based on remaining countdown ticks
-                if (phaseBar != null) {
-                    float progress = (float) countdownTicks / ConfigManager.getGameCountdownDurationTicks();
-                    phaseBar.setPercent(progress);
-                    phaseBar.setName(Text.literal("Starting in " + (countdownTicks / 20 + 1) + "s"));
-                }
+                SpawnCandidateService.tick(server.getOverworld());
+                // Update BossBar progress based on remaining countdown ticks; unchanged values are not sent
+                float progress = (float) countdownTicks / ConfigManager.getGameCountdownDurationTicks();
+                phaseBar.setProgress(progress);
+                phaseBar.setTitle("Starting in " + (countdownTicks / 20 + 1) + "s");
                 if (countdownTicks == 0) {
                     isStarting = false;
                     startGame(server);
@@ -438,18 +306,16 @@ public class GameManager {
 
         if (phase == GamePhase.BUILD) {
             phaseTicks++;
-            // Update bossbar progress
-            if (phaseBar != null) {
-                float progress = 1.0f - ((float) phaseTicks / ConfigManager.getGameBuildPhaseTicks());
-                phaseBar.setPercent(progress);
-
-                // Update title with remaining time every minute
-                if (phaseTicks % (20 * 60) == 0) {
-                    int remainingMinutes = (ConfigManager.getGameBuildPhaseTicks() - phaseTicks) / (20 * 60);
-                    phaseBar.setName(Text.literal("Build Phase - " + formatTime(remainingMinutes)));
-                    // Persist regularly
-                    DataManager.saveGameState();
-                }
+            // Update bossbar progress; only visible steps are sent
+            float progress = 1.0f - ((float) phaseTicks / ConfigManager.getGameBuildPhaseTicks());
+            phaseBar.setProgress(progress);
+
+            // Update title with remaining time every minute
+            if (phaseTicks % (20 * 60) == 0) {
+                int remainingMinutes = (ConfigManager.getGameBuildPhaseTicks() - phaseTicks) / (20 * 60);
+                phaseBar.setTitle("Build Phase - " + formatTime(remainingMinutes));
+                // Persist regularly
+                DataManager.markDirty();
             }
 
             if (phaseTicks >= ConfigManager.getGameBuildPhaseTicks()) {
@@ -459,18 +325,16 @@ public class GameManager {
             }
         } else if (phase == GamePhase.PVP) {
             phaseTicks++;
-            // Update bossbar progress
-            if (phaseBar != null) {
-                float progress = 1.0f - ((float) phaseTicks / ConfigManager.getGamePvpPhaseTicks());
-                phaseBar.setPercent(progress);
-
-                // Update title with remaining time every minute
-                if (phaseTicks % (20 * 60) == 0) {
-                    int remainingMinutes = (ConfigManager.getGamePvpPhaseTicks() - phaseTicks) / (20 * 60);
-                    phaseBar.setName(Text.literal("PvP Phase - " + formatTime(remainingMinutes)));
-                    // Persist regularly
-                    DataManager.saveGameState();
-                }
+            // Update bossbar progress; only visible steps are sent
+            float progress = 1.0f - ((float) phaseTicks / ConfigManager.getGamePvpPhaseTicks());
+            phaseBar.setProgress(progress);
+
+            // Update title with remaining time every minute
+            if (phaseTicks % (20 * 60) == 0) {
+                int remainingMinutes = (ConfigManager.getGamePvpPhaseTicks() - phaseTicks) / (20 * 60);
+                phaseBar.setTitle("PvP Phase - " + formatTime(remainingMinutes));
+                // Persist regularly
+                DataManager.markDirty();
             }
 
             if (phaseTicks >= ConfigManager.getGamePvpPhaseTicks()) {
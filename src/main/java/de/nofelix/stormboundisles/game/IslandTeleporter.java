@@ -0,0 +1,189 @@
+package de.nofelix.stormboundisles.game;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.config.ConfigManager;
+import de.nofelix.stormboundisles.data.DataManager;
+import de.nofelix.stormboundisles.data.Island;
+import de.nofelix.stormboundisles.data.Team;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves all team members to their islands when a game starts, without
+ * stalling a single tick.
+ *
+ * When the countdown starts, {@link #preloadSpawnChunks} places a chunk
+ * ticket on the spawn chunks of every island, so the server loads them in
+ * the background while the countdown runs. When the game starts,
+ * {@link #start} queues every online team member and {@link #tick}
+ * teleports a configurable number of them per tick. Once the queue is empty
+ * the tickets are released and the spawn candidates are dropped.
+ */
+public final class IslandTeleporter {
+
+    /** Chunk ticket keeping island spawn chunks loaded until the teleports are done. */
+    private static final ChunkTicketType<ChunkPos> SPAWN_TICKET = ChunkTicketType.create(
+            "stormboundisles_spawn", Comparator.comparingLong(ChunkPos::toLong));
+    /**
+     * Ticket radius in chunks around the spawn chunk. Covers the whole area
+     * scanned by {@link SpawnCandidateService}.
+     */
+    private static final int TICKET_RADIUS = 2;
+
+    private static final List<ChunkPos> ticketedChunks = new ArrayList<>();
+    private static final Deque<PendingTeleport> queue = new ArrayDeque<>();
+
+    private IslandTeleporter() {
+    }
+
+    /**
+     * Starts loading the spawn chunks of all islands with a spawn point.
+     * Tickets placed by an earlier call are replaced.
+     *
+     * @param server The Minecraft server instance
+     */
+    public static void preloadSpawnChunks(@NotNull MinecraftServer server) {
+        releaseTickets(server);
+
+        ServerWorld world = server.getOverworld();
+        for (Island island : DataManager.getIslands().values()) {
+            if (island.getSpawnY() < 0) {
+                continue;
+            }
+            ChunkPos chunk = new ChunkPos(new BlockPos(island.getSpawnX(), island.getSpawnY(), island.getSpawnZ()));
+            world.getChunkManager().addTicket(SPAWN_TICKET, chunk, TICKET_RADIUS, chunk);
+            ticketedChunks.add(chunk);
+        }
+        StormboundIslesMod.LOGGER.debug("Pre-loading spawn chunks of {} islands", ticketedChunks.size());
+    }
+
+    /**
+     * Queues every online team member for a teleport to their island.
+     * Spawn chunks are ticketed now if the countdown did not do it, and
+     * released right away if nobody was queued.
+     *
+     * @param server The Minecraft server instance
+     */
+    public static void start(@NotNull MinecraftServer server) {
+        StormboundIslesMod.LOGGER.info("Teleporting players to their islands");
+        if (ticketedChunks.isEmpty()) {
+            preloadSpawnChunks(server);
+        }
+
+        queue.clear();
+        for (Team team : DataManager.getTeams().values()) {
+            if (team.getIslandId() == null) {
+                StormboundIslesMod.LOGGER.warn("Team {} has no assigned island, skipping teleport", team.getName());
+                continue;
+            }
+
+            Island island = DataManager.getIsland(team.getIslandId());
+            if (island == null || island.getZone() == null) {
+                StormboundIslesMod.LOGGER.warn("Island {} not found or has no defined zone", team.getIslandId());
+                continue;
+            }
+
+            for (UUID uuid : team.getMembers()) {
+                if (server.getPlayerManager().getPlayer(uuid) != null) {
+                    queue.add(new PendingTeleport(uuid, island));
+                }
+            }
+        }
+
+        // Nobody to teleport, so tick never gets to release the tickets
+        if (queue.isEmpty()) {
+            finish(server);
+        }
+    }
+
+    /**
+     * Teleports the next batch of queued players and releases the chunk
+     * tickets once all are done. Call once per tick.
+     *
+     * @param server The Minecraft server instance
+     */
+    public static void tick(@NotNull MinecraftServer server) {
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        int batchSize = ConfigManager.getGameTeleportBatchSize();
+        for (int i = 0; i < batchSize && !queue.isEmpty(); i++) {
+            PendingTeleport teleport = queue.poll();
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(teleport.playerUuid());
+            if (player != null) {
+                teleportToIsland(server, player, teleport.island());
+            }
+        }
+
+        if (queue.isEmpty()) {
+            finish(server);
+        }
+    }
+
+    /**
+     * Drops pending teleports and releases all chunk tickets.
+     *
+     * @param server The Minecraft server instance
+     */
+    public static void cancel(@NotNull MinecraftServer server) {
+        queue.clear();
+        finish(server);
+    }
+
+    // Private helper methods
+
+    /**
+     * Teleports a player to a safe position near the island's spawn point.
+     */
+    private static void teleportToIsland(@NotNull MinecraftServer server, @NotNull ServerPlayerEntity player,
+            @NotNull Island island) {
+        if (island.getSpawnY() < 0) {
+            StormboundIslesMod.LOGGER.error(
+                    "Island {} has no defined spawn position, unable to teleport player", island.getId());
+            // broadcast message to all players
+            server.getPlayerManager()
+                    .broadcast(Text.literal("Island " + island.getId()
+                            + " has no defined spawn position, unable to teleport " + player.getName()),
+                            false);
+            return;
+        }
+
+        BlockPos target = SpawnCandidateService.drawSpawnPosition(island, server.getOverworld());
+        player.teleport(server.getOverworld(),
+                target.getX(), target.getY(), target.getZ(),
+                player.getYaw(), player.getPitch());
+    }
+
+    private static void finish(@NotNull MinecraftServer server) {
+        releaseTickets(server);
+        SpawnCandidateService.clear();
+    }
+
+    private static void releaseTickets(@NotNull MinecraftServer server) {
+        ServerWorld world = server.getOverworld();
+        for (ChunkPos chunk : ticketedChunks) {
+            world.getChunkManager().removeTicket(SPAWN_TICKET, chunk, TICKET_RADIUS, chunk);
+        }
+        ticketedChunks.clear();
+    }
+
+    /**
+     * A player waiting to be teleported to their team's island.
+     */
+    private record PendingTeleport(@NotNull UUID playerUuid, @NotNull Island island) {
+    }
+}
@@ -0,0 +1,130 @@
+package de.nofelix.stormboundisles.game;
+
+import de.nofelix.stormboundisles.data.DataManager;
+import de.nofelix.stormboundisles.data.Team;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which team scores have to be sent to the sidebar.
+ * <p>
+ * Teams are marked dirty when their points change and flushed once per tick.
+ * A flush only shows a score that differs from the value last shown, and
+ * removes the row of a team that no longer exists, so an idle server sends
+ * nothing. The actual scoreboard calls are left to a {@link ScoreView}.
+ * <p>
+ * Teams may be marked dirty from any thread; everything else belongs on the
+ * server thread.
+ */
+public final class ScoreSync {
+	// Names of teams whose score row needs an update
+	private final Set<String> dirtyTeams = ConcurrentHashMap.newKeySet();
+	// Team name -> points last shown, only touched on the server thread
+	private final Object2IntMap<String> shownPoints = new Object2IntOpenHashMap<>();
+
+	/**
+	 * Marks a team's score for the next flush.
+	 *
+	 * @param teamName the name of the team
+	 */
+	public void markDirty(String teamName) {
+		dirtyTeams.add(teamName);
+	}
+
+	/**
+	 * Makes the next flush send a team's score even if it did not change.
+	 *
+	 * @param teamName the name of the team
+	 */
+	public void markStale(String teamName) {
+		shownPoints.removeInt(teamName);
+		dirtyTeams.add(teamName);
+	}
+
+	/**
+	 * Checks whether any team is waiting for the next flush.
+	 *
+	 * @return true if a flush would look at any team
+	 */
+	public boolean isDirty() {
+		return !dirtyTeams.isEmpty();
+	}
+
+	/**
+	 * Shows the scores of all teams marked dirty since the last flush that
+	 * differ from the shown value.
+	 *
+	 * @param view the sidebar to update
+	 */
+	public void flush(ScoreView view) {
+		Iterator<String> iterator = dirtyTeams.iterator();
+		while (iterator.hasNext()) {
+			String teamName = iterator.next();
+			iterator.remove();
+			push(teamName, view);
+		}
+	}
+
+	/**
+	 * Shows the scores of the given teams, regardless of what was shown
+	 * before, e.g. after the objective was (re)created.
+	 *
+	 * @param teamNames the names of the teams to show
+	 * @param view      the sidebar to update
+	 */
+	public void resendAll(Iterable<String> teamNames, ScoreView view) {
+		dirtyTeams.clear();
+		shownPoints.clear();
+		for (String teamName : teamNames) {
+			push(teamName, view);
+		}
+	}
+
+	/**
+	 * Brings the score row of a team in line with its points, removing the row
+	 * of a team that no longer exists.
+	 */
+	private void push(String teamName, ScoreView view) {
+		Team team = DataManager.getTeam(teamName);
+		if (team == null) {
+			if (shownPoints.containsKey(teamName)) {
+				shownPoints.removeInt(teamName);
+				view.remove(teamName);
+			}
+			return;
+		}
+
+		int points = team.getPoints();
+		if (shownPoints.containsKey(teamName) && shownPoints.getInt(teamName) == points) {
+			return;
+		}
+		if (view.show(team, points)) {
+			shownPoints.put(teamName, points);
+		}
+	}
+
+	/**
+	 * The sidebar the scores are shown on.
+	 */
+	public interface ScoreView {
+		/**
+		 * Shows the points of a team.
+		 *
+		 * @param team   the team
+		 * @param points the points to show
+		 * @return true if the score was shown, false to try again on the next change
+		 */
+		boolean show(Team team, int points);
+
+		/**
+		 * Removes the row of a team that no longer exists.
+		 *
+		 * @param teamName the name of the removed team
+		 */
+		void remove(String teamName);
+	}
+}
@@ -3,8 +3,11 @@ package de.nofelix.stormboundisles.game;
 import de.nofelix.stormboundisles.StormboundIslesMod;
 import de.nofelix.stormboundisles.data.DataManager;
 import de.nofelix.stormboundisles.data.Team;
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.TickScheduler;
+import de.nofelix.stormboundisles.tick.TickStage;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.scoreboard.*;
 import net.minecraft.server.MinecraftServer;
@@ -12,6 +15,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -21,30 +25,45 @@ import java.util.UUID;
  * Handles scoreboard objectives for points and synchronizes Minecraft
  * scoreboard teams
  * with the custom team data stored in DataManager.
+ * <p>
+ * Scores are pushed, not polled: DataManager reports score changes, the
+ * affected teams are marked dirty in a {@link ScoreSync} and flushed once per
+ * tick. A score is only sent when it differs from the value last shown, so
+ * an idle server sends no score updates at all. The objective itself is
+ * checked periodically and re-created if it was removed.
  */
 public class ScoreboardManager {
 	private static final String OBJECTIVE_NAME = "sbi_points";
+	private static final int OBJECTIVE_CHECK_INTERVAL = 20;
 	private static Scoreboard scoreboard;
 	private static ScoreboardObjective objective;
 	private static MinecraftServer currentServer;
 
+	private static final ScoreSync scoreSync = new ScoreSync();
+	private static final ScoreSync.ScoreView sidebar = new Sidebar();
+	// Team name -> score holder of its row, only touched on the server thread
+	private static final Map<String, ScoreHolder> holders = new HashMap<>();
+	private static final Counter SCORE_UPDATES = Metrics.counter("scoreboard.updates");
+
 	public static void register() {
 		ServerLifecycleEvents.SERVER_STARTED.register(server -> {
 			currentServer = server;
 			initialize(server);
 		});
 
-		ServerTickEvents.END_SERVER_TICK.register(server -> {
+		DataManager.addScoreListener(team -> scoreSync.markDirty(team.getName()));
+		TickScheduler.everyTick("scoreboard-flush", TickStage.FLUSH, server -> {
 			if (currentServer == null)
 				currentServer = server;
-
-			if (server.getTicks() % 20 == 0) {
-				if (scoreboard != null && objective != null) {
-					updateAllScores();
-				} else if (currentServer != null) {
-					StormboundIslesMod.LOGGER.warn("Scoreboard or objective is null, attempting re-initialization.");
-					initialize(currentServer);
-				}
+			flushDirtyScores();
+		});
+		TickScheduler.schedule("scoreboard-check", () -> OBJECTIVE_CHECK_INTERVAL, server -> {
+			if (currentServer == null)
+				currentServer = server;
+			if (scoreboard == null || objective == null
+					|| scoreboard.getNullableObjective(OBJECTIVE_NAME) != objective) {
+				StormboundIslesMod.LOGGER.warn("Scoreboard objective is missing, attempting re-initialization.");
+				initialize(currentServer);
 			}
 		});
 
@@ -113,48 +132,48 @@ public class ScoreboardManager {
 		StormboundIslesMod.LOGGER.info("Scoreboard initialized successfully.");
 	}
 
+	/**
+	 * Sends the score of every team, regardless of what was shown before.
+	 * Used after the objective was (re)created.
+	 */
 	public static void updateAllScores() {
-		// Simplified check: If scoreboard or objective is null, log and return.
-		// Re-initialization is handled by the ServerTickEvents handler (lines 35-46).
+		// Re-initialization is attempted by the objective check task.
 		if (scoreboard == null || objective == null) {
 			StormboundIslesMod.LOGGER.warn(
-					"Cannot update scores: Scoreboard or objective not initialized. Re-initialization will be attempted by the tick handler.");
+					"Cannot update scores: Scoreboard or objective not initialized. Re-initialization will be attempted by the check task.");
 			return;
 		}
 
-		for (Map.Entry<String, Team> entry : DataManager.getTeams().entrySet()) {
-			Team team = entry.getValue();
-			String displayName = getDisplayNameForTeam(team);
-			// Use getOrCreateScoreAccess for clarity if available, otherwise stick to
-			// getOrCreateScore
-			ScoreAccess score = scoreboard.getOrCreateScore(ScoreHolder.fromName(displayName), objective);
-			if (score != null) {
-				score.setScore(team.getPoints());
-			} else {
-				StormboundIslesMod.LOGGER.warn("Could not get or create score for display name: {}", displayName);
-			}
-		}
+		scoreSync.resendAll(DataManager.getTeams().keySet(), sidebar);
 	}
 
+	/**
+	 * Makes the next tick resend a team's score even if it did not change.
+	 * Point changes are picked up automatically; this is only needed to force
+	 * a resend. Must be called on the server thread.
+	 *
+	 * @param teamName the name of the team
+	 */
 	public static void updateTeamScore(String teamName) {
-		if (scoreboard == null || objective == null) {
-			StormboundIslesMod.LOGGER.warn("Cannot update team score: Scoreboard or objective not initialized.");
+		scoreSync.markStale(teamName);
+	}
+
+	/**
+	 * Sends the scores of all teams marked dirty since the last tick.
+	 */
+	private static void flushDirtyScores() {
+		if (!scoreSync.isDirty()) {
 			return;
 		}
-
-		Team team = DataManager.getTeam(teamName);
-		if (team == null) {
-			StormboundIslesMod.LOGGER.warn("Cannot update score for non-existent team: {}", teamName);
+		if (scoreboard == null || objective == null) {
+			if (currentServer != null) {
+				StormboundIslesMod.LOGGER.warn("Scoreboard or objective is null, attempting re-initialization.");
+				initialize(currentServer);
+			}
 			return;
 		}
 
-		String displayName = getDisplayNameForTeam(team);
-		ScoreAccess score = scoreboard.getOrCreateScore(ScoreHolder.fromName(displayName), objective);
-		if (score != null) {
-			score.setScore(team.getPoints());
-		} else {
-			StormboundIslesMod.LOGGER.warn("Could not get or create score for display name: {}", displayName);
-		}
+		scoreSync.flush(sidebar);
 	}
 
 	private static void setupScoreboardTeamProperties() {
@@ -195,14 +214,8 @@ public class ScoreboardManager {
 
 		UUID playerUuid = player.getUuid();
 		String playerName = player.getGameProfile().getName();
-		String targetTeamName = null;
-
-		for (Team team : DataManager.getTeams().values()) {
-			if (team.getMembers().contains(playerUuid)) {
-				targetTeamName = team.getName();
-				break;
-			}
-		}
+		Team playerTeam = DataManager.getTeamOf(playerUuid);
+		String targetTeamName = playerTeam != null ? playerTeam.getName() : null;
 
 		if (targetTeamName != null) {
 			net.minecraft.scoreboard.Team sbTeam = scoreboard.getTeam(targetTeamName);
@@ -299,12 +312,7 @@ public class ScoreboardManager {
 	}
 
 	private static Team getPlayerTeamFromDataManager(UUID playerUuid) {
-		for (Team team : DataManager.getTeams().values()) {
-			if (team.getMembers().contains(playerUuid)) {
-				return team;
-			}
-		}
-		return null;
+		return DataManager.getTeamOf(playerUuid);
 	}
 
 	private static String getDisplayNameForTeam(Team team) {
@@ -321,4 +329,33 @@ public class ScoreboardManager {
 			default -> Formatting.WHITE;
 		};
 	}
+
+	/**
+	 * Shows the scores on the sidebar objective. Team names never change, so
+	 * the score holder of a team's row is built once per team.
+	 */
+	private static final class Sidebar implements ScoreSync.ScoreView {
+		@Override
+		public boolean show(Team team, int points) {
+			ScoreHolder holder = holders.computeIfAbsent(team.getName(),
+					name -> ScoreHolder.fromName(getDisplayNameForTeam(team)));
+			ScoreAccess score = scoreboard.getOrCreateScore(holder, objective);
+			if (score == null) {
+				StormboundIslesMod.LOGGER.warn("Could not get or create score for team: {}", team.getName());
+				return false;
+			}
+			score.setScore(points);
+			SCORE_UPDATES.increment();
+			return true;
+		}
+
+		@Override
+		public void remove(String teamName) {
+			ScoreHolder holder = holders.remove(teamName);
+			if (holder != null) {
+				scoreboard.removeScore(holder, objective);
+				SCORE_UPDATES.increment();
+			}
+		}
+	}
 }
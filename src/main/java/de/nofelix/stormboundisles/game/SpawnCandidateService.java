@@ -0,0 +1,281 @@
+package de.nofelix.stormboundisles.game;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.data.Island;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Precomputes safe spawn positions around each island's spawn point.
+ *
+ * A spawn position is safe when every column within {@link #CLEAR_RADIUS}
+ * blocks of it has solid ground below spawn height and air at spawn height.
+ * Positions are drawn from within {@link #SEARCH_RADIUS} blocks of the
+ * island's spawn point.
+ *
+ * While the pre-game countdown runs, the service scans the columns around
+ * each spawn point a few hundred per tick and records which ones are safe.
+ * Row prefix sums over that grid turn the check of a whole disc into one
+ * lookup per row. At the end of each pass the valid positions are collected
+ * into a pool, from which {@link #drawSpawnPosition} picks in O(1). Scanning
+ * continues in a rolling fashion, so blocks changed during the countdown are
+ * picked up and the pool is rebuilt only when a column changed.
+ *
+ * World access must happen on the server thread, so the scan is time-sliced
+ * there rather than run on a background thread.
+ */
+public final class SpawnCandidateService {
+
+    /** Maximum distance of a drawn position from the island's spawn point. */
+    private static final int SEARCH_RADIUS = 10;
+    /** Radius of the area around a drawn position that must be clear. */
+    private static final int CLEAR_RADIUS = 10;
+    /** Columns scanned per tick across all islands. */
+    private static final int COLUMNS_PER_TICK = 256;
+
+    private static final int GRID_RADIUS = SEARCH_RADIUS + CLEAR_RADIUS;
+    private static final int GRID_SIZE = 2 * GRID_RADIUS + 1;
+    // Half width of the clear disc for each row offset -CLEAR_RADIUS..CLEAR_RADIUS
+    private static final int[] CLEAR_HALF_WIDTHS = discHalfWidths(CLEAR_RADIUS);
+    private static final int[] SEARCH_HALF_WIDTHS = discHalfWidths(SEARCH_RADIUS);
+
+    // Island ID -> scan state, only touched on the server thread
+    private static final Map<String, SpawnArea> areas = new HashMap<>();
+    private static final List<SpawnArea> scanOrder = new ArrayList<>();
+
+    private SpawnCandidateService() {
+    }
+
+    /**
+     * Starts scanning the spawn areas of the given islands. Islands without a
+     * defined spawn point are skipped. Existing scan results are kept for
+     * islands whose spawn point did not move.
+     *
+     * @param islands The islands players will be teleported to
+     */
+    public static void prepare(@NotNull Collection<Island> islands) {
+        scanOrder.clear();
+        for (Island island : islands) {
+            if (island.getSpawnY() < 0) {
+                continue;
+            }
+            scanOrder.add(areaFor(island));
+        }
+        StormboundIslesMod.LOGGER.debug("Scanning spawn areas of {} islands", scanOrder.size());
+    }
+
+    /**
+     * Scans the next slice of columns. Call once per tick while a game is
+     * about to start.
+     *
+     * @param world The world the islands are in
+     */
+    public static void tick(@NotNull ServerWorld world) {
+        if (scanOrder.isEmpty()) {
+            return;
+        }
+
+        int budget = Math.max(1, COLUMNS_PER_TICK / scanOrder.size());
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (SpawnArea area : scanOrder) {
+            area.scan(world, budget, pos);
+        }
+    }
+
+    /**
+     * Draws a random safe spawn position near the island's spawn point. If the
+     * island's area has not been scanned completely yet, the rest of the scan
+     * runs now. Falls back to the spawn point itself when no safe position
+     * exists.
+     *
+     * @param island The island to spawn on; must have a defined spawn point
+     * @param world  The world the island is in
+     * @return A spawn position
+     */
+    @NotNull
+    public static BlockPos drawSpawnPosition(@NotNull Island island, @NotNull ServerWorld world) {
+        SpawnArea area = areaFor(island);
+        if (!area.hasPool()) {
+            area.scan(world, Integer.MAX_VALUE, new BlockPos.Mutable());
+        }
+        return area.draw();
+    }
+
+    /**
+     * Stops scanning and drops all scan results.
+     */
+    public static void clear() {
+        areas.clear();
+        scanOrder.clear();
+    }
+
+    // Private helper methods
+
+    @NotNull
+    private static SpawnArea areaFor(@NotNull Island island) {
+        SpawnArea area = areas.get(island.getId());
+        if (area == null || !area.isCenteredOn(island)) {
+            area = new SpawnArea(island.getSpawnX(), island.getSpawnY(), island.getSpawnZ());
+            areas.put(island.getId(), area);
+        }
+        return area;
+    }
+
+    /**
+     * Computes, for each row offset dz in [-radius, radius], the largest dx
+     * with dx² + dz² <= radius².
+     */
+    private static int[] discHalfWidths(int radius) {
+        int[] halfWidths = new int[2 * radius + 1];
+        int r2 = radius * radius;
+        for (int dz = -radius; dz <= radius; dz++) {
+            int dx = 0;
+            while ((dx + 1) * (dx + 1) + dz * dz <= r2) {
+                dx++;
+            }
+            halfWidths[dz + radius] = dx;
+        }
+        return halfWidths;
+    }
+
+    // Inner classes
+
+    /**
+     * Scan state of one island's spawn area: a grid of safe columns centered
+     * on the spawn point and the pool of valid spawn offsets derived from it.
+     */
+    private static final class SpawnArea {
+        private final int originX;
+        private final int originY;
+        private final int originZ;
+
+        private final boolean[] safe = new boolean[GRID_SIZE * GRID_SIZE];
+        // Per row, number of unsafe columns before each column index
+        private final int[] unsafePrefix = new int[GRID_SIZE * (GRID_SIZE + 1)];
+        private int cursor = 0;
+        private boolean changed = true;
+
+        // Valid spawn offsets packed as (dx, dz) pairs relative to the origin
+        private int[] pool = new int[0];
+        private boolean poolBuilt = false;
+
+        private SpawnArea(int originX, int originY, int originZ) {
+            this.originX = originX;
+            this.originY = originY;
+            this.originZ = originZ;
+        }
+
+        private boolean isCenteredOn(@NotNull Island island) {
+            return island.getSpawnX() == originX && island.getSpawnY() == originY
+                    && island.getSpawnZ() == originZ;
+        }
+
+        private boolean hasPool() {
+            return poolBuilt;
+        }
+
+        /**
+         * Scans up to the given number of columns, wrapping around after each
+         * full pass. A limited scan pauses at columns whose chunk is not
+         * loaded yet; an unlimited scan loads them and stops at the end of the
+         * current pass.
+         */
+        private void scan(@NotNull ServerWorld world, int budget, @NotNull BlockPos.Mutable pos) {
+            int columns = safe.length;
+            boolean mayLoadChunks = budget == Integer.MAX_VALUE;
+            for (int i = 0; i < budget; i++) {
+                int x = originX - GRID_RADIUS + cursor % GRID_SIZE;
+                int z = originZ - GRID_RADIUS + cursor / GRID_SIZE;
+                if (!mayLoadChunks && !world.isChunkLoaded(x >> 4, z >> 4)) {
+                    return; // Wait for the chunk ticket to load it
+                }
+                boolean columnSafe = isColumnSafe(world, x, z, pos);
+                if (safe[cursor] != columnSafe) {
+                    safe[cursor] = columnSafe;
+                    changed = true;
+                }
+
+                cursor++;
+                if (cursor == columns) {
+                    cursor = 0;
+                    if (changed) {
+                        rebuildPool();
+                    }
+                    if (budget == Integer.MAX_VALUE) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private boolean isColumnSafe(@NotNull ServerWorld world, int x, int z, @NotNull BlockPos.Mutable pos) {
+            pos.set(x, originY - 1, z);
+            BlockState ground = world.getBlockState(pos);
+            if (!ground.isSolidBlock(world, pos)) {
+                return false;
+            }
+            pos.set(x, originY, z);
+            return world.getBlockState(pos).isAir();
+        }
+
+        /**
+         * Rebuilds the row prefix sums and collects every offset within the
+         * search radius whose clear disc contains no unsafe column.
+         */
+        private void rebuildPool() {
+            for (int gz = 0; gz < GRID_SIZE; gz++) {
+                int row = gz * (GRID_SIZE + 1);
+                for (int gx = 0; gx < GRID_SIZE; gx++) {
+                    unsafePrefix[row + gx + 1] = unsafePrefix[row + gx] + (safe[gz * GRID_SIZE + gx] ? 0 : 1);
+                }
+            }
+
+            int[] candidates = new int[2 * SEARCH_HALF_WIDTHS.length * SEARCH_HALF_WIDTHS.length];
+            int size = 0;
+            for (int dz = -SEARCH_RADIUS; dz <= SEARCH_RADIUS; dz++) {
+                int halfWidth = SEARCH_HALF_WIDTHS[dz + SEARCH_RADIUS];
+                for (int dx = -halfWidth; dx <= halfWidth; dx++) {
+                    if (isDiscClear(dx + GRID_RADIUS, dz + GRID_RADIUS)) {
+                        candidates[size++] = dx;
+                        candidates[size++] = dz;
+                    }
+                }
+            }
+
+            pool = Arrays.copyOf(candidates, size);
+            poolBuilt = true;
+            changed = false;
+        }
+
+        private boolean isDiscClear(int centerX, int centerZ) {
+            for (int dz = -CLEAR_RADIUS; dz <= CLEAR_RADIUS; dz++) {
+                int halfWidth = CLEAR_HALF_WIDTHS[dz + CLEAR_RADIUS];
+                int row = (centerZ + dz) * (GRID_SIZE + 1);
+                int unsafe = unsafePrefix[row + centerX + halfWidth + 1] - unsafePrefix[row + centerX - halfWidth];
+                if (unsafe > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @NotNull
+        private BlockPos draw() {
+            if (pool.length == 0) {
+                return new BlockPos(originX + 1, originY, originZ + 1);
+            }
+            int index = ThreadLocalRandom.current().nextInt(pool.length / 2) * 2;
+            return new BlockPos(originX + pool[index] + 1, originY, originZ + pool[index + 1] + 1);
+        }
+    }
+}
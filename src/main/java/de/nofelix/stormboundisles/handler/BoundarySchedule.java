@@ -0,0 +1,78 @@
+package de.nofelix.stormboundisles.handler;
+
+import de.nofelix.stormboundisles.tick.PlayerBucketing;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decides which players get their boundary check on a tick.
+ * <p>
+ * The {@link de.nofelix.stormboundisles.location.PlayerLocationTracker}
+ * reports a player leaving an island in the tick it happens, which makes
+ * their check due at once. A player found outside their island stays due
+ * every tick until a check finds them back on it. Everyone else is only
+ * polled once per check interval, spread over its ticks by
+ * {@link PlayerBucketing}, for the rare player who got off their island
+ * without crossing its border, e.g. because the island was just assigned or
+ * its zone was changed.
+ * <p>
+ * Not thread-safe; use it from the server thread only.
+ */
+public final class BoundarySchedule {
+	// Players checked every tick until a check finds them on their island
+	private final Set<UUID> pending = new HashSet<>();
+
+	/**
+	 * Checks whether the player's boundary check is due.
+	 *
+	 * @param playerUuid    the UUID of the player
+	 * @param now           the current server tick
+	 * @param checkInterval the interval in ticks between two polls of a player
+	 * @return true if the player should be checked now
+	 */
+	public boolean isDue(UUID playerUuid, long now, int checkInterval) {
+		return pending.contains(playerUuid) || PlayerBucketing.isDue(playerUuid, now, checkInterval);
+	}
+
+	/**
+	 * Records the outcome of a player's boundary check.
+	 *
+	 * @param playerUuid the UUID of the player
+	 * @param outside    true if the player is still off their island and has
+	 *                   to be checked again on the next tick
+	 */
+	public void checked(UUID playerUuid, boolean outside) {
+		if (outside) {
+			pending.add(playerUuid);
+		} else {
+			pending.remove(playerUuid);
+		}
+	}
+
+	/**
+	 * Makes the player's boundary check due immediately.
+	 *
+	 * @param playerUuid the UUID of the player
+	 */
+	public void checkNow(UUID playerUuid) {
+		pending.add(playerUuid);
+	}
+
+	/**
+	 * Forgets the schedule of a player.
+	 *
+	 * @param playerUuid the UUID of the player
+	 */
+	public void forget(UUID playerUuid) {
+		pending.remove(playerUuid);
+	}
+
+	/**
+	 * Forgets the schedules of all players.
+	 */
+	public void forgetAll() {
+		pending.clear();
+	}
+}
@@ -4,48 +4,70 @@ import de.nofelix.stormboundisles.StormboundIslesMod;
 import de.nofelix.stormboundisles.config.ConfigManager;
 import de.nofelix.stormboundisles.data.DataManager;
 import de.nofelix.stormboundisles.data.Island;
-import de.nofelix.stormboundisles.data.IslandType;
 import de.nofelix.stormboundisles.data.Team;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.minecraft.entity.effect.StatusEffectInstance;
-import net.minecraft.entity.effect.StatusEffects;
+import de.nofelix.stormboundisles.location.PlayerLocationTracker;
+import de.nofelix.stormboundisles.location.ZoneEvents;
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.PlayerBucketing;
+import de.nofelix.stormboundisles.tick.TickScheduler;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.util.math.BlockPos;
-
-import java.util.Optional;
 
 /**
  * Applies island‑specific buffs to players within their island zones at
  * configured intervals.
+ * <p>
+ * Players are bucketed by UUID, so each tick refreshes only the players whose
+ * bucket is due and the work is spread evenly over the interval. A
+ * {@link BuffTracker} remembers which buff each player holds, so an effect is
+ * only re-sent when it is about to run out. Leaving their island removes the
+ * buff right away, reported by the {@link PlayerLocationTracker}.
  */
 public class BuffAuraHandler {
 	private static final long LOG_INTERVAL = 10_000L;
-	private static final boolean AMBIENT = false;
-	private static final boolean SHOW_PARTICLES = true;
 
+	private static final BuffTracker tracker = new BuffTracker();
+	private static final Counter BUFFS_APPLIED = Metrics.counter("buff.applied");
 	private static long lastLogTime = 0L;
-	private static int tickCounter = 0;
 
 	/**
-	 * Registers the server tick listener for buff application.
+	 * Schedules the per-tick buff refresh.
 	 */
 	public static void register() {
 		StormboundIslesMod.LOGGER.info("Registering BuffAuraHandler");
-		ServerTickEvents.END_SERVER_TICK.register(BuffAuraHandler::onServerTick);
+		TickScheduler.everyTick("buff-refresh", BuffAuraHandler::applyBuffs);
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> tracker.forget(handler.player.getUuid()));
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> tracker.forgetAll());
+		ZoneEvents.ZONE_EXIT.register(BuffAuraHandler::onZoneExit);
 	}
 
 	/**
-	 * Called each server tick; applies buffs when the configured interval has
-	 * elapsed.
+	 * Removes the buff of a player who leaves their own island.
 	 *
-	 * @param server the running Minecraft server
+	 * @param player the player
+	 * @param island the island the player left
 	 */
-	private static void onServerTick(MinecraftServer server) {
-		if (++tickCounter < ConfigManager.getBuffUpdateInterval()) {
-			return;
+	private static void onZoneExit(ServerPlayerEntity player, Island island) {
+		if (island == findOwnIsland(player)) {
+			tracker.clear(player, player.getServer().getTicks());
 		}
-		tickCounter = 0;
+	}
+
+	/**
+	 * Refreshes the buffs of the players of the current tick's bucket who
+	 * stand on their team's island. Every player is visited once per
+	 * configured update interval.
+	 *
+	 * @param server the running Minecraft server
+	 */
+	private static void applyBuffs(MinecraftServer server) {
+		long tick = TickScheduler.getCurrentTick();
+		int interval = ConfigManager.getBuffUpdateInterval();
+		int duration = ConfigManager.getBuffDurationTicks();
+		long now = server.getTicks();
 
 		long currentTime = server.getOverworld().getTimeOfDay();
 		boolean shouldLog = currentTime - lastLogTime > LOG_INTERVAL;
@@ -55,49 +77,38 @@ public class BuffAuraHandler {
 		}
 
 		for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-			Optional<Team> optionalTeam = DataManager.getTeams().values().stream()
-					.filter(t -> t.getMembers().contains(player.getUuid()))
-					.findFirst();
-			if (optionalTeam.isEmpty() || optionalTeam.get().getIslandId() == null) {
+			if (!PlayerBucketing.isDue(player.getUuid(), tick, interval)) {
 				continue;
 			}
 
-			Island island = DataManager.getIsland(optionalTeam.get().getIslandId());
-			if (island == null || island.getZone() == null) {
+			Island island = findOwnIsland(player);
+			if (island == null || !PlayerLocationTracker.isOnIsland(player, island)) {
 				continue;
 			}
 
-			BlockPos pos = player.getBlockPos();
-			if (island.getZone().contains(pos)) {
+			if (tracker.refresh(player, island.getType(), now, interval, duration)) {
+				BUFFS_APPLIED.increment();
 				if (shouldLog) {
-					StormboundIslesMod.LOGGER.debug("Applying {} buff to {}", island.getType(),
+					StormboundIslesMod.LOGGER.debug("Applied {} buff to {}", island.getType(),
 							player.getName().getString());
 				}
-				applyBuff(player, island.getType());
 			}
 		}
 	}
 
 	/**
-	 * Applies the status effect corresponding to the given island type.
+	 * Gets the island of the player's team if it has a zone.
 	 *
-	 * @param player the target player
-	 * @param type   the island type determining the buff
+	 * @param player the player
+	 * @return the island, or null if the player has no island with a zone
 	 */
-	private static void applyBuff(ServerPlayerEntity player, IslandType type) {
-		int duration = ConfigManager.getBuffDurationTicks();
-		StatusEffectInstance effect = switch (type) {
-			case DESERT ->
-				new StatusEffectInstance(StatusEffects.SPEED, duration, 0, true, AMBIENT, SHOW_PARTICLES);
-			case VOLCANO ->
-				new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, duration, 0, true, AMBIENT, SHOW_PARTICLES);
-			case ICE ->
-				new StatusEffectInstance(StatusEffects.RESISTANCE, duration, 0, true, AMBIENT, SHOW_PARTICLES);
-			case MUSHROOM ->
-				new StatusEffectInstance(StatusEffects.REGENERATION, duration, 0, true, AMBIENT, SHOW_PARTICLES);
-			case CRYSTAL ->
-				new StatusEffectInstance(StatusEffects.HASTE, duration, 0, true, AMBIENT, SHOW_PARTICLES);
-		};
-		player.addStatusEffect(effect);
+	private static Island findOwnIsland(ServerPlayerEntity player) {
+		Team team = DataManager.getTeamOf(player.getUuid());
+		if (team == null || team.getIslandId() == null) {
+			return null;
+		}
+
+		Island island = DataManager.getIsland(team.getIslandId());
+		return island != null && island.getZone() != null ? island : null;
 	}
 }
@@ -0,0 +1,113 @@
+package de.nofelix.stormboundisles.handler;
+
+import de.nofelix.stormboundisles.data.IslandType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers the island buff each player was given and when it runs out, and
+ * decides which checks have to give it again.
+ * <p>
+ * A buff is due for a refresh when the player never got one, got the buff
+ * of another island type, or would see it run out before the next check.
+ * Whether the effect is still present on the player (milk, death) is up to
+ * the caller.
+ * <p>
+ * Not thread-safe; use it from the server thread only.
+ */
+public final class BuffSchedule {
+	/** Extra ticks of overlap so a buff never lapses between two checks. */
+	public static final int REFRESH_MARGIN_TICKS = 20;
+
+	private final Map<UUID, BuffState> states = new HashMap<>();
+
+	/**
+	 * Checks whether the player's buff has to be given again.
+	 *
+	 * @param playerUuid    the UUID of the player
+	 * @param type          the island type determining the buff
+	 * @param now           the current server tick
+	 * @param checkInterval ticks until the player is checked again
+	 * @return true if the player holds no buff of that type lasting until the
+	 *         next check
+	 */
+	public boolean needsRefresh(UUID playerUuid, IslandType type, long now, int checkInterval) {
+		BuffState state = states.get(playerUuid);
+		return state == null || state.type != type
+				|| state.expiryTick - now < checkInterval + REFRESH_MARGIN_TICKS;
+	}
+
+	/**
+	 * Records that the player was just given a buff.
+	 *
+	 * @param playerUuid the UUID of the player
+	 * @param type       the island type of the buff
+	 * @param now        the current server tick
+	 * @param duration   the buff duration in ticks
+	 */
+	public void applied(UUID playerUuid, IslandType type, long now, int duration) {
+		BuffState state = states.get(playerUuid);
+		if (state == null) {
+			states.put(playerUuid, new BuffState(type, now + duration));
+		} else {
+			state.type = type;
+			state.expiryTick = now + duration;
+		}
+	}
+
+	/**
+	 * Gets the island type of the buff the player was last given.
+	 *
+	 * @param playerUuid the UUID of the player
+	 * @return the island type, or null if the player holds no tracked buff
+	 */
+	@Nullable
+	public IslandType getType(UUID playerUuid) {
+		BuffState state = states.get(playerUuid);
+		return state == null ? null : state.type;
+	}
+
+	/**
+	 * Gets the ticks left on the buff the player was last given.
+	 *
+	 * @param playerUuid the UUID of the player
+	 * @param now        the current server tick
+	 * @return the remaining duration in ticks, 0 if the player holds no tracked buff
+	 */
+	public long getRemainingTicks(UUID playerUuid, long now) {
+		BuffState state = states.get(playerUuid);
+		return state == null ? 0 : Math.max(0, state.expiryTick - now);
+	}
+
+	/**
+	 * Forgets the buff of a player.
+	 *
+	 * @param playerUuid the UUID of the player
+	 */
+	public void forget(UUID playerUuid) {
+		states.remove(playerUuid);
+	}
+
+	/**
+	 * Forgets the buffs of all players.
+	 */
+	public void forgetAll() {
+		states.clear();
+	}
+
+	/**
+	 * The buff a player currently holds.
+	 */
+	private static final class BuffState {
+		private IslandType type;
+		private long expiryTick;
+
+		private BuffState(IslandType type, long expiryTick) {
+			this.type = type;
+			this.expiryTick = expiryTick;
+		}
+	}
+}
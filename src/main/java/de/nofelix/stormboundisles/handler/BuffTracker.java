@@ -0,0 +1,119 @@
+package de.nofelix.stormboundisles.handler;
+
+import de.nofelix.stormboundisles.data.IslandType;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tracks the island buff each player currently holds, so buffs are only
+ * re-sent when they are about to run out.
+ * <p>
+ * When a buff is due is decided by a {@link BuffSchedule}: only when the
+ * island type changed or the remaining duration would not last until the
+ * next check. The tracker adds the check whether the effect is gone (milk,
+ * death), applies the effect and takes it away again when the player
+ * leaves their island. Each refresh costs an entity-effect packet, so with
+ * a buff duration well above twice the check interval most checks send
+ * nothing.
+ * <p>
+ * Not thread-safe; use it from the server thread only.
+ */
+final class BuffTracker {
+	private static final Map<IslandType, BuffTemplate> TEMPLATES = createTemplates();
+
+	private final BuffSchedule schedule = new BuffSchedule();
+
+	/**
+	 * Makes sure the player holds the buff of the given island type.
+	 *
+	 * @param player        the player standing on their island
+	 * @param type          the island type determining the buff
+	 * @param now           the current server tick
+	 * @param checkInterval ticks until the player is checked again
+	 * @param duration      the buff duration in ticks
+	 * @return true if the effect was (re)applied
+	 */
+	boolean refresh(ServerPlayerEntity player, IslandType type, long now, int checkInterval, int duration) {
+		BuffTemplate template = TEMPLATES.get(type);
+		if (template == null) {
+			return false;
+		}
+		if (!schedule.needsRefresh(player.getUuid(), type, now, checkInterval)
+				&& player.hasStatusEffect(template.effect())) {
+			return false;
+		}
+
+		player.addStatusEffect(template.create(duration));
+		schedule.applied(player.getUuid(), type, now, duration);
+		return true;
+	}
+
+	/**
+	 * Takes away the buff of a player who left their island, but only if
+	 * the effect is still the one the tracker applied, so a longer or
+	 * stronger potion of the same effect survives.
+	 *
+	 * @param player the player
+	 * @param now    the current server tick
+	 */
+	void clear(ServerPlayerEntity player, long now) {
+		IslandType type = schedule.getType(player.getUuid());
+		if (type == null) {
+			return;
+		}
+		long remaining = schedule.getRemainingTicks(player.getUuid(), now);
+		schedule.forget(player.getUuid());
+
+		BuffTemplate template = TEMPLATES.get(type);
+		StatusEffectInstance current = player.getStatusEffect(template.effect());
+		if (current != null && current.getAmplifier() == template.amplifier()
+				&& current.getDuration() <= remaining + 1) {
+			player.removeStatusEffect(template.effect());
+		}
+	}
+
+	/**
+	 * Forgets the state of a player without touching their effects.
+	 *
+	 * @param playerUuid the UUID of the player
+	 */
+	void forget(UUID playerUuid) {
+		schedule.forget(playerUuid);
+	}
+
+	/**
+	 * Forgets the state of all players.
+	 */
+	void forgetAll() {
+		schedule.forgetAll();
+	}
+
+	private static Map<IslandType, BuffTemplate> createTemplates() {
+		Map<IslandType, BuffTemplate> templates = new EnumMap<>(IslandType.class);
+		templates.put(IslandType.DESERT, new BuffTemplate(StatusEffects.SPEED, 0));
+		templates.put(IslandType.VOLCANO, new BuffTemplate(StatusEffects.FIRE_RESISTANCE, 0));
+		templates.put(IslandType.ICE, new BuffTemplate(StatusEffects.RESISTANCE, 0));
+		templates.put(IslandType.MUSHROOM, new BuffTemplate(StatusEffects.REGENERATION, 0));
+		templates.put(IslandType.CRYSTAL, new BuffTemplate(StatusEffects.HASTE, 0));
+		return templates;
+	}
+
+	/**
+	 * The immutable effect settings of one island type's buff.
+	 */
+	private record BuffTemplate(RegistryEntry<StatusEffect> effect, int amplifier) {
+		private static final boolean AMBIENT = false;
+		private static final boolean SHOW_PARTICLES = true;
+
+		StatusEffectInstance create(int duration) {
+			return new StatusEffectInstance(effect, duration, amplifier, true, AMBIENT, SHOW_PARTICLES);
+		}
+	}
+}
@@ -7,9 +7,14 @@ import de.nofelix.stormboundisles.data.Island;
 import de.nofelix.stormboundisles.data.Team;
 import de.nofelix.stormboundisles.game.GameManager;
 import de.nofelix.stormboundisles.game.GamePhase;
-import de.nofelix.stormboundisles.game.ScoreboardManager;
+import de.nofelix.stormboundisles.jfr.BoundaryTeleportEvent;
+import de.nofelix.stormboundisles.location.PlayerLocationTracker;
+import de.nofelix.stormboundisles.location.ZoneEvents;
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.TickScheduler;
 import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -18,22 +23,26 @@ import net.minecraft.util.math.BlockPos;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Handles player-related events: death penalties and boundary enforcement
  * during the build phase.
+ * <p>
+ * Leaving an island, on foot or by ender pearl alike, is reported by the
+ * {@link PlayerLocationTracker} and checked at once, so a
+ * {@link BoundarySchedule} only polls the other players now and then.
  */
 public final class PlayerEventHandler {
-	private static int boundaryCheckCounter = 0;
 	private static final Map<UUID, Long> lastBoundaryWarning = new HashMap<>();
+	private static final BoundarySchedule boundarySchedule = new BoundarySchedule();
+	private static final Counter BOUNDARY_TELEPORTS = Metrics.counter("boundary.teleports");
 
 	private PlayerEventHandler() {
 	}
 
 	/**
-	 * Registers death and tick listeners.
+	 * Registers the death listener and schedules boundary checks.
 	 */
 	public static void register() {
 		StormboundIslesMod.LOGGER.info("Registering PlayerEventHandler");
@@ -44,60 +53,71 @@ public final class PlayerEventHandler {
 						"Player {} died, handling death event.", player.getName().getString());
 			}
 		});
-		ServerTickEvents.END_SERVER_TICK.register(PlayerEventHandler::onServerTick);
+		TickScheduler.everyTick("boundary-check", PlayerEventHandler::checkBoundaries);
+		ZoneEvents.ZONE_EXIT.register((player, island) -> boundarySchedule.checkNow(player.getUuid()));
+		ServerPlayConnectionEvents.DISCONNECT.register(
+				(handler, server) -> boundarySchedule.forget(handler.player.getUuid()));
 	}
 
 	/**
-	 * Called each server tick to enforce island boundaries in BUILD phase.
+	 * Enforces island boundaries in BUILD phase for every player whose
+	 * check is due.
 	 */
-	private static void onServerTick(MinecraftServer server) {
-		if (GameManager.phase != GamePhase.BUILD)
-			return;
-
-		if (++boundaryCheckCounter < ConfigManager.getPlayerBoundaryCheckInterval()) {
+	private static void checkBoundaries(MinecraftServer server) {
+		if (GameManager.phase != GamePhase.BUILD) {
+			boundarySchedule.forgetAll();
 			return;
 		}
-		boundaryCheckCounter = 0;
 
+		long tick = TickScheduler.getCurrentTick();
+		int interval = ConfigManager.getPlayerBoundaryCheckInterval();
 		for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-			enforceIslandBoundary(player);
+			if (boundarySchedule.isDue(player.getUuid(), tick, interval)) {
+				boundarySchedule.checked(player.getUuid(), enforceIslandBoundary(player));
+			}
 		}
 	}
 
 	/**
 	 * Warns and teleports a player back if they leave their island during BUILD.
+	 *
+	 * @return true if the player was off their island and needs to be checked
+	 *         again on the next tick
 	 */
-	private static void enforceIslandBoundary(ServerPlayerEntity player) {
-		Optional<Team> team = DataManager.getTeams().values().stream()
-				.filter(t -> t.getMembers().contains(player.getUuid()))
-				.findFirst();
-
-		if (team.isEmpty() || team.get().getIslandId() == null)
-			return;
+	private static boolean enforceIslandBoundary(ServerPlayerEntity player) {
+		Team team = DataManager.getTeamOf(player.getUuid());
+		if (team == null || team.getIslandId() == null)
+			return false;
 
-		Island island = DataManager.getIsland(team.get().getIslandId());
+		Island island = DataManager.getIsland(team.getIslandId());
 		if (island == null || island.getZone() == null)
-			return;
+			return false;
+
+		if (PlayerLocationTracker.isOnIsland(player, island))
+			return false;
 
 		BlockPos pos = player.getBlockPos();
-		if (!island.getZone().contains(pos)) {
-			long now = System.currentTimeMillis();
-			Long last = lastBoundaryWarning.get(player.getUuid());
-			if (last == null || (now - last) > ConfigManager.getPlayerBoundaryWarningCooldownMs()) {
-				player.sendMessage(
-						Text.literal("§c⚠ You cannot leave your island during the build phase!"),
-						true);
-				lastBoundaryWarning.put(player.getUuid(), now);
-			}
+		long now = System.currentTimeMillis();
+		Long last = lastBoundaryWarning.get(player.getUuid());
+		if (last == null || (now - last) > ConfigManager.getPlayerBoundaryWarningCooldownMs()) {
+			player.sendMessage(
+					Text.literal("§c⚠ You cannot leave your island during the build phase!"),
+					true);
+			lastBoundaryWarning.put(player.getUuid(), now);
+		}
 
-			if (island.getSpawnY() >= 0) {
-				ServerWorld world = player.getServerWorld();
-				player.teleport(
-						world,
-						island.getSpawnX() + 0.5, island.getSpawnY(), island.getSpawnZ() + 0.5,
-						player.getYaw(), player.getPitch());
-			}
+		if (island.getSpawnY() >= 0) {
+			ServerWorld world = player.getServerWorld();
+			player.teleport(
+					world,
+					island.getSpawnX() + 0.5, island.getSpawnY(), island.getSpawnZ() + 0.5,
+					player.getYaw(), player.getPitch());
+			BOUNDARY_TELEPORTS.increment();
+			BoundaryTeleportEvent.emit(player.getGameProfile().getName(), island.getId(), pos.getX(), pos.getZ());
 		}
+
+		// Keep checking every tick until the player is back on the island
+		return true;
 	}
 
 	/**
@@ -109,31 +129,26 @@ public final class PlayerEventHandler {
 			return;
 		}
 
-		UUID id = player.getUuid();
-		Optional<Team> team = DataManager.getTeams().values().stream()
-				.filter(t -> t.getMembers().contains(id))
-				.findFirst();
-
-		team.ifPresent(t -> {
-			int penalty = ConfigManager.getPlayerDeathPenalty();
-			t.addPoints(-penalty);
-			ScoreboardManager.updateTeamScore(t.getName());
-
-			String msg = "Team " + t.getName() + " lost " + penalty +
-					" points (Player death: " + player.getName().getString() + ")";
-			StormboundIslesMod.LOGGER.info(msg);
-			player.getServer()
-					.getPlayerManager()
-					.broadcast(Text.literal(msg), false);
-
-			DataManager.saveAll();
-			Island isl = DataManager.getIsland(t.getIslandId());
-			if (isl != null && isl.hasSpawnPoint()) {
-				player.teleport(
-						player.getServerWorld(),
-						isl.getSpawnX() + 0.5, isl.getSpawnY(), isl.getSpawnZ() + 0.5,
-						player.getYaw(), player.getPitch());
-			}
-		});
+		Team team = DataManager.getTeamOf(player.getUuid());
+		if (team == null)
+			return;
+
+		int penalty = ConfigManager.getPlayerDeathPenalty();
+		team.addPoints(-penalty);
+
+		String msg = "Team " + team.getName() + " lost " + penalty +
+				" points (Player death: " + player.getName().getString() + ")";
+		StormboundIslesMod.LOGGER.info(msg);
+		player.getServer()
+				.getPlayerManager()
+				.broadcast(Text.literal(msg), false);
+
+		Island isl = DataManager.getIsland(team.getIslandId());
+		if (isl != null && isl.hasSpawnPoint()) {
+			player.teleport(
+					player.getServerWorld(),
+					isl.getSpawnX() + 0.5, isl.getSpawnY(), isl.getSpawnZ() + 0.5,
+					player.getYaw(), player.getPitch());
+		}
 	}
 }
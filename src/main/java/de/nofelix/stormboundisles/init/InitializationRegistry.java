@@ -1,121 +1,229 @@
 package de.nofelix.stormboundisles.init;
 
 import de.nofelix.stormboundisles.StormboundIslesMod;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
+import de.nofelix.stormboundisles.jfr.InitializerEvent;
+import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Registry for discovering and calling initialization methods annotated with
+ * Registry for calling initialization methods annotated with
  * {@link Initialize}.
  * <p>
- * This class scans for methods marked with the {@link Initialize} annotation
- * and executes them in order of priority (higher priority executes first).
+ * The methods are discovered at compile time by the initialize-processor,
+ * which generates {@link GeneratedInitializers} with a direct call to every
+ * method, listed after its dependencies. No classpath scanning or reflection
+ * happens at startup.
  * <p>
- * Methods must be static, have no parameters, and return void to be eligible
- * for automatic
- * initialization.
+ * The dependencies form a DAG. Every method is started on a fork-join pool
+ * as soon as all of its dependencies have finished, so independent methods
+ * (e.g. loading the config and loading the data files) run in parallel.
+ * {@link #initializeAll()} returns once all of them are done, and then logs
+ * a startup report with the wall time of every method.
+ * <p>
+ * Methods must be public, static, have no parameters, and return void to be
+ * eligible for automatic initialization; the processor rejects others at
+ * compile time.
  */
 public class InitializationRegistry {
+    private static final int MIN_THREADS = 2;
+
     private static boolean initialized = false;
 
     /**
-     * Discovers and executes all initialization methods in the given package and
-     * its subpackages.
-     * Methods are executed in order of their priority (higher priority first).
-     *
-     * @param basePackage The base package to scan for initialization methods
+     * Executes all initialization methods, each after its dependencies, and
+     * waits for them to finish. A failing method is logged and does not stop
+     * the methods that do not depend on it; the ones that do are skipped.
      */
-    public static void initializeAll(String basePackage) {
+    public static void initializeAll() {
         if (initialized) {
             StormboundIslesMod.LOGGER.warn("InitializationRegistry.initializeAll() called more than once");
             return;
         }
 
-        StormboundIslesMod.LOGGER.info("Scanning for initialization methods in package: {}", basePackage);
+        List<InitializerEntry> entries = GeneratedInitializers.ENTRIES;
+        if (entries.isEmpty()) {
+            StormboundIslesMod.LOGGER.warn("No initialization methods registered");
+            return;
+        }
 
+        long startNanos = System.nanoTime();
+        ForkJoinPool pool = createPool(entries.size());
+        Map<String, CompletableFuture<InitializerResult>> futures = new HashMap<>();
         try {
-            // Create a Reflections scanner to find annotated methods
-            Reflections reflections = new Reflections(basePackage, Scanners.MethodsAnnotated);
+            // Entries are listed after their dependencies, so those futures already exist
+            for (InitializerEntry entry : entries) {
+                List<CompletableFuture<InitializerResult>> dependencies = new ArrayList<>();
+                for (String dependency : entry.dependsOn()) {
+                    dependencies.add(futures.getOrDefault(dependency,
+                            CompletableFuture.completedFuture(InitializerResult.missing(dependency))));
+                }
+                CompletableFuture<InitializerResult> future = CompletableFuture
+                        .allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                        .thenApplyAsync(ignored -> run(entry, dependencies, startNanos), pool);
+                futures.put(entry.name(), future);
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            // Only errors escape run(); rethrow them as if they happened on this thread
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
 
-            // Find all methods annotated with @Initialize
-            Set<Method> initMethods = reflections.getMethodsAnnotatedWith(Initialize.class);
+        long wallNanos = System.nanoTime() - startNanos;
+        List<InitializerResult> results = new ArrayList<>(entries.size());
+        for (InitializerEntry entry : entries) {
+            results.add(futures.get(entry.name()).join());
+        }
+        logReport(results, wallNanos, pool.getParallelism());
 
-            if (initMethods.isEmpty()) {
-                StormboundIslesMod.LOGGER.warn("No initialization methods found in package: {}", basePackage);
-                return;
-            }
+        initialized = true;
+        long succeeded = results.stream().filter(result -> result.status() == Status.SUCCEEDED).count();
+        StormboundIslesMod.LOGGER.info("Successfully initialized {} of {} methods", succeeded, entries.size());
+    }
 
-            // Filter out non-static or methods with parameters - using modern pattern
-            // matching
-            Set<Method> validMethods = initMethods.stream()
-                    .filter(method -> Modifier.isStatic(method.getModifiers()))
-                    .filter(method -> method.getParameterCount() == 0)
-                    .filter(method -> method.getReturnType() == void.class)
-                    .collect(Collectors.toSet());
-
-            if (initMethods.size() != validMethods.size()) {
-                StormboundIslesMod.LOGGER.warn("{} initialization methods were invalid and will be skipped: {}",
-                        initMethods.size() - validMethods.size(),
-                        initMethods.stream()
-                                .filter(m -> !validMethods.contains(m))
-                                .map(m -> m.getDeclaringClass().getSimpleName() + "." + m.getName())
-                                .collect(Collectors.joining(", ")));
+    /**
+     * Resets the initialization status, allowing initializeAll to be called again.
+     * This is primarily for testing purposes.
+     */
+    public static void reset() {
+        initialized = false;
+    }
+
+    // Private helper methods
+
+    /**
+     * Runs one initialization method unless one of its dependencies did not
+     * succeed.
+     */
+    @NotNull
+    private static InitializerResult run(@NotNull InitializerEntry entry,
+            @NotNull List<CompletableFuture<InitializerResult>> dependencies, long startNanos) {
+        long begin = System.nanoTime() - startNanos;
+        String thread = Thread.currentThread().getName();
+        for (CompletableFuture<InitializerResult> dependency : dependencies) {
+            InitializerResult result = dependency.join();
+            if (result.status() != Status.SUCCEEDED) {
+                StormboundIslesMod.LOGGER.error("Skipping initialization method {}: dependency {} {}",
+                        entry.name(), result.name(), result.status().describe());
+                InitializerEvent event = new InitializerEvent();
+                if (event.shouldCommit()) {
+                    event.set(entry.name(), entry.description(), Status.SKIPPED.name());
+                    event.commit();
+                }
+                return new InitializerResult(entry.name(), Status.SKIPPED, thread, begin, 0);
             }
+        }
 
-            // Sort by priority (higher priority first) - using modern method reference
-            validMethods.stream()
-                    .sorted(Comparator.comparingInt(InitializationRegistry::getPriorityInverse))
-                    .forEach(method -> {
-                        Initialize annotation = method.getAnnotation(Initialize.class);
-                        String description = annotation.description().isEmpty()
-                                ? ""
-                                : " - " + annotation.description();
-
-                        try {
-                            StormboundIslesMod.LOGGER.debug("Calling initialization method: {}.{}{}",
-                                    method.getDeclaringClass().getSimpleName(),
-                                    method.getName(),
-                                    description);
-
-                            method.invoke(null);
-                            StormboundIslesMod.LOGGER.trace("Successfully called {}.{}",
-                                    method.getDeclaringClass().getSimpleName(), method.getName());
-                        } catch (Exception e) {
-                            StormboundIslesMod.LOGGER.error("Failed to call initialization method: {}.{}",
-                                    method.getDeclaringClass().getSimpleName(), method.getName(), e);
-                        }
-                    });
-
-            initialized = true;
-            StormboundIslesMod.LOGGER.info("Successfully initialized {} methods", validMethods.size());
+        String description = entry.description().isEmpty() ? "" : " - " + entry.description();
+        InitializerEvent event = new InitializerEvent();
+        event.begin();
+        Status status;
+        try {
+            StormboundIslesMod.LOGGER.debug("Calling initialization method: {}{}", entry.name(), description);
+            entry.action().run();
+            StormboundIslesMod.LOGGER.trace("Successfully called {}", entry.name());
+            status = Status.SUCCEEDED;
         } catch (Exception e) {
-            StormboundIslesMod.LOGGER.error("Failed to scan for initialization methods", e);
+            StormboundIslesMod.LOGGER.error("Failed to call initialization method: {}", entry.name(), e);
+            status = Status.FAILED;
+        }
+        if (event.shouldCommit()) {
+            event.set(entry.name(), entry.description(), status.name());
+            event.commit();
         }
+        return new InitializerResult(entry.name(), status, thread, begin, System.nanoTime() - startNanos - begin);
     }
 
     /**
-     * Gets the inverse priority value for sorting (higher priority methods run
-     * first).
-     * 
-     * @param method The method to get priority for
-     * @return The negative priority value (for sorting in descending order)
+     * Creates the pool for the initialization methods. Initializers mostly
+     * wait on file I/O, so at least two threads are used even on a single
+     * core. The threads use the caller's context class loader, since the
+     * mod's classes are only visible through the loader of the game.
      */
-    private static int getPriorityInverse(Method method) {
-        Initialize annotation = method.getAnnotation(Initialize.class);
-        return -annotation.priority(); // Negative to sort higher values first
+    @NotNull
+    private static ForkJoinPool createPool(int entryCount) {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors());
+        int parallelism = Math.max(1, Math.min(entryCount, threads));
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("StormboundIsles-Init-" + threadCount.getAndIncrement());
+            thread.setContextClassLoader(contextLoader);
+            return thread;
+        }, null, false);
     }
 
     /**
-     * Resets the initialization status, allowing initializeAll to be called again.
-     * This is primarily for testing purposes.
+     * Logs the start offset, wall time and thread of every initialization
+     * method in the order they started.
      */
-    public static void reset() {
-        initialized = false;
+    private static void logReport(@NotNull List<InitializerResult> results, long wallNanos, int parallelism) {
+        long busyNanos = results.stream().mapToLong(InitializerResult::durationNanos).sum();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Startup report: %d methods in %.1f ms wall time (%.1f ms total, %d threads)",
+                results.size(), toMillis(wallNanos), toMillis(busyNanos), parallelism));
+
+        List<InitializerResult> byStart = new ArrayList<>(results);
+        byStart.sort(Comparator.comparingLong(InitializerResult::startNanos));
+        for (InitializerResult result : byStart) {
+            report.append(String.format("%n  +%8.1f ms %8.1f ms  %-9s %-24s %s",
+                    toMillis(result.startNanos()), toMillis(result.durationNanos()),
+                    result.status(), result.thread(), result.name()));
+        }
+        StormboundIslesMod.LOGGER.info(report.toString());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    // Inner classes
+
+    /**
+     * Outcome of one initialization method.
+     */
+    private enum Status {
+        SUCCEEDED,
+        FAILED,
+        SKIPPED,
+        MISSING;
+
+        @NotNull
+        private String describe() {
+            return switch (this) {
+                case SUCCEEDED -> "succeeded";
+                case FAILED -> "failed";
+                case SKIPPED -> "was skipped";
+                case MISSING -> "does not exist";
+            };
+        }
+    }
+
+    /**
+     * Timing of one initialization method, relative to the start of
+     * {@link #initializeAll()}.
+     */
+    private record InitializerResult(@NotNull String name, @NotNull Status status, @NotNull String thread,
+            long startNanos, long durationNanos) {
+        @NotNull
+        private static InitializerResult missing(@NotNull String name) {
+            return new InitializerResult(name, Status.MISSING, "-", 0, 0);
+        }
     }
-}
\ No newline at end of file
+}
@@ -12,13 +12,17 @@ import java.lang.annotation.Target;
  * <p>
  * Methods marked with this annotation must be static, have no parameters, and
  * return void.
- * They will be discovered and called by the {@link InitializationRegistry}
- * during mod initialization.
+ * They are collected at compile time by the initialize-processor and called
+ * by the {@link InitializationRegistry} during mod initialization.
+ * <p>
+ * Initialization methods run in parallel on worker threads. A method only
+ * runs after all methods listed in {@link #dependsOn()} have finished, so it
+ * must declare every initialization it relies on.
  * <p>
  * Example usage:
  * 
  * <pre>{@code
- * @Initialize(priority = 100)
+ * @Initialize(priority = 100, dependsOn = "ConfigManager.loadConfig")
  * public static void initialize() {
  *     // Initialization code
  * }
@@ -28,8 +32,9 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface Initialize {
     /**
-     * The priority of this initialization method. Methods with higher priority
-     * will be executed before methods with lower priority.
+     * The priority of this initialization method. When several methods are
+     * ready to run, those with higher priority are started first. Ordering
+     * between methods is only guaranteed through {@link #dependsOn()}.
      * <p>
      * Default priority is 1000. Range is 0-9999.
      * 
@@ -44,4 +49,13 @@ public @interface Initialize {
      * @return Description of the initialization method
      */
     String description() default "";
-}
\ No newline at end of file
+
+    /**
+     * Initialization methods that must finish before this one starts, named
+     * as {@code SimpleClassName.methodName}. Unknown names and cycles are
+     * compile errors. If a dependency fails, this method is skipped.
+     *
+     * @return The names of the methods this one depends on
+     */
+    String[] dependsOn() default {};
+}
@@ -0,0 +1,18 @@
+package de.nofelix.stormboundisles.init;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * An {@link Initialize} method as recorded in the generated registry.
+ *
+ * @param name        The method as {@code Class.method}, for logs
+ * @param priority    The priority from the annotation
+ * @param description The description from the annotation, may be empty
+ * @param dependsOn   The names of the entries that must run first
+ * @param action      Calls the method
+ */
+record InitializerEntry(@NotNull String name, int priority, @NotNull String description,
+        @NotNull List<String> dependsOn, @NotNull Runnable action) {
+}
@@ -0,0 +1,51 @@
+package de.nofelix.stormboundisles.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for a player teleported back onto their island by
+ * the build-phase boundary check.
+ */
+@Name("stormboundisles.BoundaryTeleport")
+@Label("Boundary Teleport")
+@Category({ "Stormbound Isles", "Player" })
+@Description("A player who left their island was teleported back to its spawn")
+@StackTrace(false)
+public final class BoundaryTeleportEvent extends Event {
+    @Label("Player")
+    String player;
+
+    @Label("Island")
+    String islandId;
+
+    @Label("Block X")
+    int x;
+
+    @Label("Block Z")
+    int z;
+
+    /**
+     * Records a boundary teleport if the event is enabled.
+     *
+     * @param player   The player's name
+     * @param islandId The island the player was sent back to
+     * @param x        The block X coordinate the player left the island at
+     * @param z        The block Z coordinate the player left the island at
+     */
+    public static void emit(@NotNull String player, @NotNull String islandId, int x, int z) {
+        BoundaryTeleportEvent event = new BoundaryTeleportEvent();
+        if (event.shouldCommit()) {
+            event.player = player;
+            event.islandId = islandId;
+            event.x = x;
+            event.z = z;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package de.nofelix.stormboundisles.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for reading or writing one data file. The events of
+ * a load or save are nested in its {@link DataLoadEvent} or
+ * {@link DataSaveEvent} on the same thread.
+ */
+@Name("stormboundisles.DataFile")
+@Label("Data File")
+@Category({ "Stormbound Isles", "Data" })
+@Description("A data file was read or written")
+@StackTrace(false)
+public final class DataFileEvent extends Event {
+    @Label("Path")
+    String path;
+
+    @Label("Write")
+    boolean write;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Fills in the event fields.
+     *
+     * @param path  The file
+     * @param write true for a write, false for a read
+     * @param bytes The number of bytes read or written
+     */
+    public void set(@NotNull String path, boolean write, long bytes) {
+        this.path = path;
+        this.write = write;
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,37 @@
+package de.nofelix.stormboundisles.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for loading all data from disk. The bytes read are
+ * reported per file by the nested {@link DataFileEvent}s.
+ */
+@Name("stormboundisles.DataLoad")
+@Label("Data Load")
+@Category({ "Stormbound Isles", "Data" })
+@Description("Islands, teams and game state were loaded")
+@StackTrace(false)
+public final class DataLoadEvent extends Event {
+    @Label("Islands")
+    int islands;
+
+    @Label("Teams")
+    int teams;
+
+    /**
+     * Fills in the event fields.
+     *
+     * @param islands The number of islands loaded
+     * @param teams   The number of teams loaded
+     */
+    public void set(int islands, int teams) {
+        this.islands = islands;
+        this.teams = teams;
+    }
+}
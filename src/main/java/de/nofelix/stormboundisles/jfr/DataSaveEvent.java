@@ -0,0 +1,44 @@
+package de.nofelix.stormboundisles.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for writing data to disk, either a full synchronous
+ * save or a background save of the changed entities. The bytes written are
+ * reported per file by the nested {@link DataFileEvent}s.
+ */
+@Name("stormboundisles.DataSave")
+@Label("Data Save")
+@Category({ "Stormbound Isles", "Data" })
+@Description("Islands, teams and game state were saved")
+@StackTrace(false)
+public final class DataSaveEvent extends Event {
+    @Label("Background")
+    @Description("Whether the changed entities were written by the background saver")
+    boolean background;
+
+    @Label("Islands Written")
+    int islands;
+
+    @Label("Teams Written")
+    int teams;
+
+    /**
+     * Fills in the event fields.
+     *
+     * @param background true for a background save
+     * @param islands    The number of island files written
+     * @param teams      The number of team files written
+     */
+    public void set(boolean background, int islands, int teams) {
+        this.background = background;
+        this.islands = islands;
+        this.teams = teams;
+    }
+}
@@ -0,0 +1,40 @@
+package de.nofelix.stormboundisles.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for a disaster whose cooldown has passed.
+ */
+@Name("stormboundisles.DisasterExpire")
+@Label("Disaster Expire")
+@Category({ "Stormbound Isles", "Disaster" })
+@Description("An active disaster expired after its cooldown")
+@StackTrace(false)
+public final class DisasterExpireEvent extends Event {
+    @Label("Island")
+    String islandId;
+
+    @Label("Disaster")
+    String disaster;
+
+    /**
+     * Records an expired disaster if the event is enabled.
+     *
+     * @param islandId The island ID
+     * @param disaster The disaster type
+     */
+    public static void emit(@NotNull String islandId, @NotNull String disaster) {
+        DisasterExpireEvent event = new DisasterExpireEvent();
+        if (event.shouldCommit()) {
+            event.islandId = islandId;
+            event.disaster = disaster;
+            event.commit();
+        }
+    }
+}
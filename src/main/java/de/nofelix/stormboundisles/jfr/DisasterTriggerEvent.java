@@ -0,0 +1,53 @@
+package de.nofelix.stormboundisles.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for a triggered disaster. The duration covers the
+ * broadcast and applying the effects to the players on the island.
+ *
+ * Example usage:
+ * ```java
+ * DisasterTriggerEvent event = new DisasterTriggerEvent();
+ * event.begin();
+ * int affected = applyEffects();
+ * if (event.shouldCommit()) {
+ *     event.set(islandId, type.name(), affected);
+ *     event.commit();
+ * }
+ * ```
+ */
+@Name("stormboundisles.DisasterTrigger")
+@Label("Disaster Trigger")
+@Category({ "Stormbound Isles", "Disaster" })
+@Description("A disaster was triggered on an island")
+@StackTrace(false)
+public final class DisasterTriggerEvent extends Event {
+    @Label("Island")
+    String islandId;
+
+    @Label("Disaster")
+    String disaster;
+
+    @Label("Affected Players")
+    int affectedPlayers;
+
+    /**
+     * Fills in the event fields.
+     *
+     * @param islandId        The island ID
+     * @param disaster        The disaster type
+     * @param affectedPlayers The number of players the effect was applied to
+     */
+    public void set(@NotNull String islandId, @NotNull String disaster, int affectedPlayers) {
+        this.islandId = islandId;
+        this.disaster = disaster;
+        this.affectedPlayers = affectedPlayers;
+    }
+}
@@ -0,0 +1,42 @@
+package de.nofelix.stormboundisles.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for one {@code @Initialize} method run during mod
+ * initialization.
+ */
+@Name("stormboundisles.Initializer")
+@Label("Initializer")
+@Category({ "Stormbound Isles", "Initialization" })
+@Description("An initialization method ran, failed or was skipped")
+@StackTrace(false)
+public final class InitializerEvent extends Event {
+    @Label("Initializer")
+    String initializer;
+
+    @Label("Description")
+    String description;
+
+    @Label("Status")
+    String status;
+
+    /**
+     * Fills in the event fields.
+     *
+     * @param initializer The initializer name, e.g. {@code DataManager.initialize}
+     * @param description The initializer's description
+     * @param status      The outcome
+     */
+    public void set(@NotNull String initializer, @NotNull String description, @NotNull String status) {
+        this.initializer = initializer;
+        this.description = description;
+        this.status = status;
+    }
+}
@@ -0,0 +1,41 @@
+package de.nofelix.stormboundisles.jfr;
+
+import de.nofelix.stormboundisles.game.GamePhase;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event for a transition between game phases.
+ */
+@Name("stormboundisles.PhaseChange")
+@Label("Phase Change")
+@Category({ "Stormbound Isles", "Game" })
+@Description("The game moved to another phase")
+@StackTrace(false)
+public final class PhaseChangeEvent extends Event {
+    @Label("Previous Phase")
+    String previousPhase;
+
+    @Label("Phase")
+    String phase;
+
+    /**
+     * Records a phase change if the event is enabled.
+     *
+     * @param previousPhase The phase the game left
+     * @param phase         The phase the game entered
+     */
+    public static void emit(@NotNull GamePhase previousPhase, @NotNull GamePhase phase) {
+        PhaseChangeEvent event = new PhaseChangeEvent();
+        if (event.shouldCommit()) {
+            event.previousPhase = previousPhase.name();
+            event.phase = phase.name();
+            event.commit();
+        }
+    }
+}
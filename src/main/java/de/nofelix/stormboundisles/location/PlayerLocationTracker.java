@@ -0,0 +1,180 @@
+package de.nofelix.stormboundisles.location;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.data.DataManager;
+import de.nofelix.stormboundisles.data.Island;
+import de.nofelix.stormboundisles.init.Initialize;
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.TickScheduler;
+import de.nofelix.stormboundisles.tick.TickStage;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caches the islands each online player stands on.
+ *
+ * A player's islands are only looked up again when they moved into another
+ * block column or the island index changed since the last lookup, so asking
+ * whether a player who has not crossed a block is on an island costs a map
+ * lookup and a few comparisons instead of a containment test. All islands
+ * whose zones contain the column are kept, since zones may overlap or share
+ * a border. For every island the player stepped off or onto,
+ * {@link ZoneEvents#ZONE_EXIT} or {@link ZoneEvents#ZONE_ENTER} is fired.
+ *
+ * All online players are refreshed once per tick, in the
+ * {@link TickStage#TRACKING} stage ahead of the game logic; queries refresh
+ * the asked player as well, so they are exact even right after a teleport.
+ * Like the island zones, the tracker ignores the player's world and Y
+ * coordinate. Use it from the server thread only.
+ *
+ * Example usage:
+ * ```java
+ * if (PlayerLocationTracker.isOnIsland(player, island)) {
+ *     applyEffect(player);
+ * }
+ * ```
+ */
+public final class PlayerLocationTracker {
+    private static final Logger LOGGER = StormboundIslesMod.LOGGER;
+
+    private static final Map<UUID, PlayerLocation> locations = new HashMap<>();
+    private static final Counter LOOKUPS = Metrics.counter("location.lookups");
+
+    private PlayerLocationTracker() {
+    }
+
+    // Initialization
+
+    /**
+     * Schedules the per-tick refresh and forgets players when they leave.
+     * This method is automatically called during mod initialization.
+     */
+    @Initialize(priority = 1500, description = "Track the island each player stands on",
+            dependsOn = "DataManager.initialize")
+    public static void initialize() {
+        TickScheduler.everyTick("location-update", TickStage.TRACKING, PlayerLocationTracker::updateAll);
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> locations.remove(handler.player.getUuid()));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> locations.clear());
+        Metrics.gauge("location.tracked", locations::size);
+        LOGGER.info("PlayerLocationTracker initialized successfully");
+    }
+
+    // Public API methods
+
+    /**
+     * Gets the island the player stands on. Where zones overlap, this is the
+     * one {@link DataManager#islandAt} returns.
+     *
+     * @param player The player
+     * @return The island whose zone contains the player's block column, or
+     *         null if the player is on no island
+     */
+    @Nullable
+    public static Island getIsland(@NotNull ServerPlayerEntity player) {
+        List<Island> islands = update(player).islands;
+        return islands.isEmpty() ? null : islands.get(0);
+    }
+
+    /**
+     * Checks whether the player stands on the given island, even where its
+     * zone overlaps another island's.
+     *
+     * @param player The player
+     * @param island The island
+     * @return true if the island's zone contains the player's block column
+     */
+    public static boolean isOnIsland(@NotNull ServerPlayerEntity player, @NotNull Island island) {
+        return contains(update(player).islands, island);
+    }
+
+    // Private helper methods
+
+    private static void updateAll(@NotNull MinecraftServer server) {
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            update(player);
+        }
+    }
+
+    /**
+     * Brings the player's cached islands up to date and fires the zone events
+     * for the islands they left or entered.
+     */
+    @NotNull
+    private static PlayerLocation update(@NotNull ServerPlayerEntity player) {
+        PlayerLocation location = locations.get(player.getUuid());
+        if (location == null) {
+            location = new PlayerLocation();
+            locations.put(player.getUuid(), location);
+        }
+
+        BlockPos pos = player.getBlockPos();
+        // Read the version before the lookup, so a concurrent change forces another lookup
+        long indexVersion = DataManager.getIslandIndexVersion();
+        if (location.resolved && location.x == pos.getX() && location.z == pos.getZ()
+                && location.indexVersion == indexVersion) {
+            return location;
+        }
+
+        List<Island> previous = location.islands;
+        List<Island> current = DataManager.islandsAt(pos);
+        LOOKUPS.increment();
+        location.resolved = true;
+        location.x = pos.getX();
+        location.z = pos.getZ();
+        location.indexVersion = indexVersion;
+        location.islands = current;
+
+        // The location is already updated, so listeners asking for it see the new islands
+        for (Island island : previous) {
+            if (!contains(current, island)) {
+                ZoneEvents.ZONE_EXIT.invoker().onZoneExit(player, island);
+            }
+        }
+        for (Island island : current) {
+            if (!contains(previous, island)) {
+                ZoneEvents.ZONE_ENTER.invoker().onZoneEnter(player, island);
+            }
+        }
+        return location;
+    }
+
+    /**
+     * Checks whether the list holds this very island object; an island
+     * reloaded under the same ID counts as a different island.
+     */
+    private static boolean contains(@NotNull List<Island> islands, @NotNull Island island) {
+        for (Island candidate : islands) {
+            if (candidate == island) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Inner classes
+
+    /**
+     * The last resolved location of a player.
+     */
+    private static final class PlayerLocation {
+        private boolean resolved;
+        private int x;
+        private int z;
+        private long indexVersion;
+        // Islands whose zones contained the column, in index order
+        @NotNull
+        private List<Island> islands = List.of();
+    }
+}
@@ -0,0 +1,68 @@
+package de.nofelix.stormboundisles.location;
+
+import de.nofelix.stormboundisles.data.Island;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Events fired by {@link PlayerLocationTracker} when a player steps onto or
+ * off an island's zone. Listeners run on the server thread.
+ *
+ * The events are fired per island: a player standing where zones overlap
+ * or share a border is on all of those islands and enters or exits each of
+ * them separately. When a player moves directly from one island to another,
+ * the exits of the old islands are fired before the enters of the new ones.
+ * Players who disconnect do not exit their islands.
+ *
+ * Example usage:
+ * ```java
+ * ZoneEvents.ZONE_ENTER.register((player, island) ->
+ *         ActionbarNotifier.send(player, "Welcome to " + island.getId()));
+ * ```
+ */
+public final class ZoneEvents {
+
+    /**
+     * Fired when a player enters an island's zone.
+     */
+    public static final Event<ZoneEnter> ZONE_ENTER = EventFactory.createArrayBacked(ZoneEnter.class,
+            listeners -> (player, island) -> {
+                for (ZoneEnter listener : listeners) {
+                    listener.onZoneEnter(player, island);
+                }
+            });
+
+    /**
+     * Fired when a player leaves an island's zone, or the zone is removed or
+     * changed from under them.
+     */
+    public static final Event<ZoneExit> ZONE_EXIT = EventFactory.createArrayBacked(ZoneExit.class,
+            listeners -> (player, island) -> {
+                for (ZoneExit listener : listeners) {
+                    listener.onZoneExit(player, island);
+                }
+            });
+
+    private ZoneEvents() {
+    }
+
+    @FunctionalInterface
+    public interface ZoneEnter {
+        /**
+         * @param player The player
+         * @param island The island the player now stands on
+         */
+        void onZoneEnter(@NotNull ServerPlayerEntity player, @NotNull Island island);
+    }
+
+    @FunctionalInterface
+    public interface ZoneExit {
+        /**
+         * @param player The player
+         * @param island The island the player stood on until now
+         */
+        void onZoneExit(@NotNull ServerPlayerEntity player, @NotNull Island island);
+    }
+}
@@ -0,0 +1,44 @@
+package de.nofelix.stormboundisles.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count, e.g. of calls or bytes.
+ *
+ * Backed by a {@link LongAdder}, so concurrent increments from the server
+ * thread and background threads do not contend, and recording never
+ * allocates.
+ */
+public final class Counter {
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * Adds one to the count.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds the given amount to the count.
+     *
+     * @param amount The amount to add
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * @return The current count
+     */
+    public long get() {
+        return count.sum();
+    }
+
+    void reset() {
+        count.reset();
+    }
+}
@@ -0,0 +1,107 @@
+package de.nofelix.stormboundisles.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with power-of-two
+ * buckets.
+ *
+ * Bucket {@code i} counts the values in {@code [2^(i-1), 2^i)}, bucket 0 the
+ * values of 0 and below, so recording is a leading-zero count and one atomic
+ * increment, without locks or allocation. Percentiles are reported as the
+ * upper bound of their bucket, which is accurate to a factor of two; the
+ * mean and maximum are exact.
+ */
+public final class Histogram {
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    Histogram() {
+    }
+
+    /**
+     * Records one value.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long nanos) {
+        int bucket = nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+        buckets.incrementAndGet(bucket);
+        sum.add(nanos);
+
+        long current = max.get();
+        while (nanos > current && !max.compareAndSet(current, nanos)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Takes a consistent-enough view of the histogram for reporting. Values
+     * recorded concurrently may or may not be included.
+     *
+     * @return The current statistics
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        long maxValue = max.get();
+        return new Snapshot(count, sum.sum(), maxValue,
+                percentile(counts, count, 0.50, maxValue),
+                percentile(counts, count, 0.99, maxValue));
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Finds the upper bound of the bucket holding the given quantile, capped
+     * at the maximum seen.
+     */
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long upperBound = i == 0 ? 0 : i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upperBound, maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Statistics of a histogram at one point in time.
+     *
+     * @param count The number of recorded values
+     * @param sum   The sum of all values in nanoseconds
+     * @param max   The largest value in nanoseconds
+     * @param p50   The median, rounded up to its bucket bound
+     * @param p99   The 99th percentile, rounded up to its bucket bound
+     */
+    public record Snapshot(long count, long sum, long max, long p50, long p99) {
+        /**
+         * @return The mean value in nanoseconds, or 0 if nothing was recorded
+         */
+        public long mean() {
+            return count == 0 ? 0 : sum / count;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package de.nofelix.stormboundisles.metrics;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.config.ConfigManager;
+import de.nofelix.stormboundisles.init.Initialize;
+import de.nofelix.stormboundisles.tick.ScheduledTask;
+import de.nofelix.stormboundisles.tick.TickScheduler;
+import de.nofelix.stormboundisles.tick.TickStage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process registry of the mod's counters, gauges and latency histograms.
+ *
+ * Metrics are looked up by name once, usually into a {@code static final}
+ * field of the measuring class, and recorded through that reference; the
+ * recording path never allocates or locks. Names are dotted and lower case,
+ * e.g. {@code zone.contains} or {@code data.save}.
+ *
+ * The current values are shown by {@code /sbi admin metrics} and logged
+ * periodically as configured by {@code metrics.dumpIntervalTicks}.
+ *
+ * Example usage:
+ * ```java
+ * private static final Counter TRIGGERS = Metrics.counter("disaster.triggered");
+ * private static final Histogram SAVE_TIME = Metrics.histogram("data.save");
+ *
+ * TRIGGERS.increment();
+ * long start = System.nanoTime();
+ * save();
+ * SAVE_TIME.record(System.nanoTime() - start);
+ * ```
+ */
+public final class Metrics {
+    private static final Logger LOGGER = StormboundIslesMod.LOGGER;
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    // The periodic dump, only scheduled while the configured interval is above 0
+    @Nullable
+    private static ScheduledTask dumpTask;
+
+    private Metrics() {
+    }
+
+    // Initialization
+
+    /**
+     * Schedules the periodic metrics dump, and schedules or cancels it again
+     * whenever a config reload turns it on or off.
+     * This method is automatically called during mod initialization.
+     */
+    @Initialize(priority = 1500, description = "Schedule the periodic metrics dump",
+            dependsOn = "ConfigManager.loadConfig")
+    public static void initialize() {
+        updateDumpTask();
+        ConfigManager.addChangeListener((previous, current) -> updateDumpTask());
+    }
+
+    // Public API methods
+
+    /**
+     * Gets the counter with the given name, creating it on first use.
+     *
+     * @param name The metric name
+     * @return The counter
+     */
+    @NotNull
+    public static Counter counter(@NotNull String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Gets the latency histogram with the given name, creating it on first use.
+     *
+     * @param name The metric name
+     * @return The histogram
+     */
+    @NotNull
+    public static Histogram histogram(@NotNull String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge with the same name. The supplier
+     * is only called when a report is built, on the server thread.
+     *
+     * @param name  The metric name
+     * @param value Supplies the current value
+     */
+    public static void gauge(@NotNull String name, @NotNull LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Builds one line per metric, sorted by name. Counters and gauges show
+     * their value, histograms their count, mean, percentiles and maximum.
+     *
+     * @return The report lines
+     */
+    @NotNull
+    public static List<String> report() {
+        Map<String, String> lines = new TreeMap<>();
+        counters.forEach((name, counter) -> lines.put(name, name + ": " + counter.get()));
+        gauges.forEach((name, gauge) -> {
+            String value;
+            try {
+                value = Long.toString(gauge.getAsLong());
+            } catch (RuntimeException e) {
+                value = "error";
+            }
+            lines.put(name, name + ": " + value);
+        });
+        histograms.forEach((name, histogram) -> {
+            Histogram.Snapshot snapshot = histogram.snapshot();
+            lines.put(name, "%s: n=%d avg=%.1fµs p50<=%.1fµs p99<=%.1fµs max=%.1fµs".formatted(
+                    name, snapshot.count(),
+                    snapshot.mean() / 1000.0,
+                    snapshot.p50() / 1000.0,
+                    snapshot.p99() / 1000.0,
+                    snapshot.max() / 1000.0));
+        });
+        return new ArrayList<>(lines.values());
+    }
+
+    /**
+     * Resets all counters and histograms. Gauges are unaffected.
+     */
+    public static void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    // Private helper methods
+
+    /**
+     * Schedules the dump if it is enabled and not scheduled yet, or cancels
+     * it if a configured interval of 0 disabled it.
+     */
+    private static synchronized void updateDumpTask() {
+        boolean enabled = ConfigManager.getMetricsDumpIntervalTicks() > 0;
+        if (enabled && dumpTask == null) {
+            dumpTask = TickScheduler.schedule("metrics-dump", ConfigManager::getMetricsDumpIntervalTicks,
+                    TickStage.FLUSH, server -> logReport());
+        } else if (!enabled && dumpTask != null) {
+            TickScheduler.cancel(dumpTask);
+            dumpTask = null;
+        }
+    }
+
+    private static void logReport() {
+        LOGGER.info("Metrics:\n  {}", String.join("\n  ", report()));
+    }
+}
@@ -0,0 +1,73 @@
+package de.nofelix.stormboundisles.tick;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Spreads per-player work evenly over the ticks of an interval.
+ *
+ * Each player is assigned to one of {@code interval} buckets by a stable hash
+ * of their UUID. A task that runs every tick and only processes the bucket of
+ * the current tick visits every player exactly once per interval, with the
+ * same period as before, but handles only about 1/interval of the players on
+ * any single tick.
+ *
+ * Example usage:
+ * ```java
+ * long tick = TickScheduler.getCurrentTick();
+ * for (ServerPlayerEntity player : players) {
+ *     if (PlayerBucketing.isDue(player.getUuid(), tick, interval)) {
+ *         process(player);
+ *     }
+ * }
+ * ```
+ */
+public final class PlayerBucketing {
+
+    private PlayerBucketing() {
+    }
+
+    /**
+     * Gets the bucket of a player.
+     *
+     * @param playerUuid  The UUID of the player
+     * @param bucketCount The number of buckets (values below 1 are treated as 1)
+     * @return The bucket in [0, bucketCount)
+     */
+    public static int bucketOf(@NotNull UUID playerUuid, int bucketCount) {
+        if (bucketCount <= 1) {
+            return 0;
+        }
+        return (int) Long.remainderUnsigned(mix(playerUuid), bucketCount);
+    }
+
+    /**
+     * Checks whether a player is processed on the given tick.
+     *
+     * @param playerUuid The UUID of the player
+     * @param tick       The current tick
+     * @param interval   The per-player processing interval in ticks
+     * @return true if the player's bucket is due on this tick
+     */
+    public static boolean isDue(@NotNull UUID playerUuid, long tick, int interval) {
+        if (interval <= 1) {
+            return true;
+        }
+        return bucketOf(playerUuid, interval) == Math.floorMod(tick, interval);
+    }
+
+    /**
+     * Mixes both halves of the UUID with the MurmurHash3 finalizer, so
+     * version and variant bits do not skew the bucket distribution.
+     */
+    private static long mix(@NotNull UUID uuid) {
+        long h = uuid.getMostSignificantBits() ^ Long.rotateLeft(uuid.getLeastSignificantBits(), 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
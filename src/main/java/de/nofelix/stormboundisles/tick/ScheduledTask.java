@@ -0,0 +1,182 @@
+package de.nofelix.stormboundisles.tick;
+
+import de.nofelix.stormboundisles.metrics.Histogram;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import net.minecraft.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * A periodic task run by the {@link TickScheduler}.
+ *
+ * The task runs in its {@link TickStage} on every tick where
+ * {@code tick % interval == phase}. The
+ * interval is read from its supplier on every tick, so config changes take
+ * effect immediately. The phase is fixed when the task is scheduled, except
+ * for automatically staggered tasks, which the scheduler re-staggers when
+ * their interval changes.
+ *
+ * Execution time is recorded for every run and can be read through the
+ * getters, e.g. for the admin tick report.
+ */
+public final class ScheduledTask {
+
+    @NotNull
+    private final String name;
+    @NotNull
+    private final IntSupplier interval;
+    @NotNull
+    private final Consumer<MinecraftServer> action;
+    @NotNull
+    private final TickStage stage;
+    private final boolean staggered;
+    // Run time distribution, kept across resets of the statistics below
+    @NotNull
+    private final Histogram runTimes;
+    // Phase and the interval it was chosen for, only changed on the server thread
+    private int phase;
+    private int phaseInterval;
+
+    // Timing statistics, only written on the server thread
+    private long runCount = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+    private long lastNanos = 0;
+
+    ScheduledTask(@NotNull String name, @NotNull IntSupplier interval, int phase, boolean staggered,
+            @NotNull TickStage stage, @NotNull Consumer<MinecraftServer> action) {
+        this.name = name;
+        this.interval = interval;
+        this.action = action;
+        this.stage = stage;
+        this.staggered = staggered;
+        this.runTimes = Metrics.histogram("tick." + name);
+        this.phase = phase;
+        this.phaseInterval = getInterval();
+    }
+
+    // Getters
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the current interval of the task.
+     *
+     * @return The interval in ticks (at least 1)
+     */
+    public int getInterval() {
+        return Math.max(1, interval.getAsInt());
+    }
+
+    /**
+     * Gets the tick offset of the task within its interval.
+     *
+     * @return The phase offset in ticks
+     */
+    public int getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the part of the tick the task runs in.
+     *
+     * @return The stage of the task
+     */
+    @NotNull
+    public TickStage getStage() {
+        return stage;
+    }
+
+    /**
+     * Checks whether the scheduler chose the phase of this task.
+     *
+     * @return true if the task is automatically staggered
+     */
+    public boolean isStaggered() {
+        return staggered;
+    }
+
+    public long getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * @return The mean execution time per run in nanoseconds, or 0 if the task never ran
+     */
+    public long getAverageNanos() {
+        return runCount == 0 ? 0 : totalNanos / runCount;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getLastNanos() {
+        return lastNanos;
+    }
+
+    /**
+     * Resets the timing statistics of the task.
+     */
+    public void resetStats() {
+        runCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        lastNanos = 0;
+    }
+
+    // Package-private scheduler hooks
+
+    /**
+     * Checks whether the task is due on the given tick.
+     */
+    boolean isDue(long tick) {
+        return Math.floorMod(tick - phase, getInterval()) == 0;
+    }
+
+    /**
+     * Checks whether the task is staggered and its interval changed since its
+     * phase was chosen.
+     */
+    boolean needsRestagger() {
+        return staggered && getInterval() != phaseInterval;
+    }
+
+    /**
+     * Moves the task to a new phase chosen for its current interval.
+     */
+    void restagger(int phase) {
+        this.phase = phase;
+        this.phaseInterval = getInterval();
+    }
+
+    /**
+     * Runs the task and records its execution time.
+     */
+    void run(@NotNull MinecraftServer server) {
+        long start = System.nanoTime();
+        try {
+            action.accept(server);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            runCount++;
+            totalNanos += elapsed;
+            lastNanos = elapsed;
+            runTimes.record(elapsed);
+            if (elapsed > maxNanos) {
+                maxNanos = elapsed;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledTask{name='%s', stage=%s, interval=%d, phase=%d}".formatted(name, stage, getInterval(),
+                phase);
+    }
+}
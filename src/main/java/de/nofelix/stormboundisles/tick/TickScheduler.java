@@ -0,0 +1,351 @@
+package de.nofelix.stormboundisles.tick;
+
+import de.nofelix.stormboundisles.StormboundIslesMod;
+import de.nofelix.stormboundisles.config.ConfigManager;
+import de.nofelix.stormboundisles.init.Initialize;
+import de.nofelix.stormboundisles.metrics.Histogram;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Central scheduler for all periodic server-tick work of the mod.
+ *
+ * Registers a single END_SERVER_TICK listener and runs the scheduled tasks
+ * that are due, ordered by their {@link TickStage} and then by name rather
+ * than by the order they were scheduled in, since the initializers that
+ * schedule most of them run in parallel. Tasks scheduled without an explicit
+ * phase are staggered automatically: the scheduler picks the phase offset
+ * whose runs coincide least often with the runs of the tasks already
+ * scheduled, so periodic work such as buff refreshes, boundary checks,
+ * scoreboard syncs and disaster rolls does not pile onto the same tick. When
+ * the server starts, the phases are chosen again in task order, so they do
+ * not depend on the scheduling order either.
+ *
+ * Every run is timed; see {@link #getTasks()} for the per-task statistics.
+ *
+ * One-off delayed work goes through {@link #runLater(long, Runnable)}, which
+ * is backed by a {@link TimingWheel} driven by {@code server.getTicks()}.
+ * Delays therefore follow in-game time under lag, and the cost per tick only
+ * depends on the number of expiring tasks.
+ *
+ * Example usage:
+ * ```java
+ * TickScheduler.schedule("disaster-roll", ConfigManager::getDisasterIntervalTicks, server -> rollDisaster());
+ * TickScheduler.everyTick("game-loop", GameManager::onServerTick);
+ * TickScheduler.everyTick("config-reload", TickStage.CONFIG, server -> publishPendingReload());
+ * TickScheduler.runLater(200, () -> LOGGER.info("Ten seconds of game time later"));
+ * ```
+ */
+public final class TickScheduler {
+
+    private static final Logger LOGGER = StormboundIslesMod.LOGGER;
+    private static final int WHEEL_SLOTS = 1024;
+    // Phases tried when staggering a task; longer intervals only use the first minute
+    private static final int STAGGER_SEARCH_LIMIT = 20 * 60;
+    private static final Histogram TICK_TIME = Metrics.histogram("tick.total");
+    private static final Comparator<ScheduledTask> EXECUTION_ORDER = Comparator
+            .comparing(ScheduledTask::getStage)
+            .thenComparing(ScheduledTask::getName);
+
+    private static final List<ScheduledTask> tasks = new CopyOnWriteArrayList<>();
+    // Ticks processed so far; the first tick is 1, so phase-0 tasks first run after a full interval
+    private static long currentTick = 0;
+    // Delayed one-off tasks, advanced to server.getTicks() before the periodic tasks run
+    private static TimingWheel delayedTasks = new TimingWheel(WHEEL_SLOTS);
+
+    private TickScheduler() {
+    }
+
+    // Initialization
+
+    /**
+     * Registers the scheduler's server tick listener.
+     * This method is automatically called during mod initialization.
+     */
+    @Initialize(priority = 2400, description = "Register the central tick scheduler")
+    public static void initialize() {
+        LOGGER.info("Initializing TickScheduler...");
+        // Server ticks restart at 0 with every integrated server, so the wheel does too
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> {
+            delayedTasks = new TimingWheel(WHEEL_SLOTS, server.getTicks());
+            restaggerAll();
+        });
+        ServerTickEvents.END_SERVER_TICK.register(TickScheduler::onServerTick);
+        // Intervals come from the config, so a reload may call for new phases
+        ConfigManager.addChangeListener((previous, current) -> restagger());
+        LOGGER.info("TickScheduler initialized successfully");
+    }
+
+    // Public API methods
+
+    /**
+     * Schedules a task that runs on every tick in the {@link TickStage#GAME}
+     * stage.
+     *
+     * @param name   A short name for logs and the tick report
+     * @param action The work to run
+     * @return The scheduled task
+     */
+    @NotNull
+    public static ScheduledTask everyTick(@NotNull String name, @NotNull Consumer<MinecraftServer> action) {
+        return everyTick(name, TickStage.GAME, action);
+    }
+
+    /**
+     * Schedules a task that runs on every tick.
+     *
+     * @param name   A short name for logs and the tick report
+     * @param stage  The part of the tick to run the task in
+     * @param action The work to run
+     * @return The scheduled task
+     */
+    @NotNull
+    public static ScheduledTask everyTick(@NotNull String name, @NotNull TickStage stage,
+            @NotNull Consumer<MinecraftServer> action) {
+        return add(new ScheduledTask(name, () -> 1, 0, false, stage, action));
+    }
+
+    /**
+     * Schedules a periodic task with an automatically staggered phase in the
+     * {@link TickStage#GAME} stage.
+     *
+     * @param name     A short name for logs and the tick report
+     * @param interval Supplies the interval in ticks; read on every tick
+     * @param action   The work to run
+     * @return The scheduled task
+     */
+    @NotNull
+    public static ScheduledTask schedule(@NotNull String name, @NotNull IntSupplier interval,
+            @NotNull Consumer<MinecraftServer> action) {
+        return schedule(name, interval, TickStage.GAME, action);
+    }
+
+    /**
+     * Schedules a periodic task with an automatically staggered phase.
+     *
+     * @param name     A short name for logs and the tick report
+     * @param interval Supplies the interval in ticks; read on every tick
+     * @param stage    The part of the tick to run the task in
+     * @param action   The work to run
+     * @return The scheduled task
+     */
+    @NotNull
+    public static synchronized ScheduledTask schedule(@NotNull String name, @NotNull IntSupplier interval,
+            @NotNull TickStage stage, @NotNull Consumer<MinecraftServer> action) {
+        // Synchronized so tasks scheduled by parallel initializers see each other's phases
+        int phase = chooseStaggeredPhase(Math.max(1, interval.getAsInt()), tasks);
+        return add(new ScheduledTask(name, interval, phase, true, stage, action));
+    }
+
+    /**
+     * Schedules a periodic task with a fixed phase offset in the
+     * {@link TickStage#GAME} stage.
+     *
+     * @param name     A short name for logs and the tick report
+     * @param interval Supplies the interval in ticks; read on every tick
+     * @param phase    The tick offset within the interval
+     * @param action   The work to run
+     * @return The scheduled task
+     * @throws IllegalArgumentException if phase is negative
+     */
+    @NotNull
+    public static ScheduledTask schedule(@NotNull String name, @NotNull IntSupplier interval, int phase,
+            @NotNull Consumer<MinecraftServer> action) {
+        if (phase < 0) {
+            throw new IllegalArgumentException("Phase cannot be negative");
+        }
+
+        return add(new ScheduledTask(name, interval, phase, false, TickStage.GAME, action));
+    }
+
+    /**
+     * Removes a task from the scheduler.
+     *
+     * @param task The task to remove
+     * @return true if the task was scheduled
+     */
+    public static boolean cancel(@NotNull ScheduledTask task) {
+        return tasks.remove(task);
+    }
+
+    /**
+     * Runs a task once after the given number of server ticks.
+     * Must be called on the server thread.
+     *
+     * @param delayTicks The delay in ticks; values below 1 run on the next tick
+     * @param task       The task to run
+     * @return A handle for cancelling the task
+     */
+    @NotNull
+    public static TimingWheel.Timeout runLater(long delayTicks, @NotNull Runnable task) {
+        return delayedTasks.schedule(delayTicks, () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOGGER.error("Delayed tick task failed", e);
+            }
+        });
+    }
+
+    /**
+     * Returns the scheduled tasks in execution order.
+     *
+     * @return An unmodifiable view of the tasks
+     */
+    @NotNull
+    public static List<ScheduledTask> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * Gets the number of ticks the scheduler has processed.
+     *
+     * @return The scheduler's tick counter
+     */
+    public static long getCurrentTick() {
+        return currentTick;
+    }
+
+    // Staggering
+
+    /**
+     * Picks new phases for the automatically staggered tasks whose interval
+     * changed since their phase was chosen, e.g. after a config reload.
+     * Must be called on the server thread.
+     */
+    public static synchronized void restagger() {
+        for (ScheduledTask task : tasks) {
+            if (!task.needsRestagger()) {
+                continue;
+            }
+            List<ScheduledTask> others = tasks.stream().filter(other -> other != task).toList();
+            task.restagger(chooseStaggeredPhase(task.getInterval(), others));
+            LOGGER.debug("Re-staggered tick task '{}' (interval {}, phase {})",
+                    task.getName(), task.getInterval(), task.getPhase());
+        }
+    }
+
+    /**
+     * Chooses the phases of all automatically staggered tasks again, each
+     * against the fixed-phase tasks and the staggered tasks before it in
+     * execution order, so the phases are the same on every startup however
+     * the parallel initializers interleaved.
+     */
+    private static synchronized void restaggerAll() {
+        List<ScheduledTask> placed = new ArrayList<>();
+        for (ScheduledTask task : tasks) {
+            if (!task.isStaggered()) {
+                placed.add(task);
+            }
+        }
+        for (ScheduledTask task : tasks) {
+            if (task.isStaggered()) {
+                task.restagger(chooseStaggeredPhase(task.getInterval(), placed));
+                placed.add(task);
+            }
+        }
+    }
+
+    /**
+     * Chooses the phase for a new task that coincides least with the given
+     * tasks. Two tasks with intervals a and b and phases p and q run on the
+     * same tick exactly when p and q are congruent modulo gcd(a, b), and then
+     * once every lcm(a, b) ticks; the phase with the lowest total collision
+     * rate wins, ties going to the smallest phase. Only the first
+     * {@value #STAGGER_SEARCH_LIMIT} phases are tried, which keeps tasks with
+     * long intervals cheap to stagger on the server thread.
+     *
+     * @param interval The interval of the new task
+     * @param existing The tasks already scheduled
+     * @return The chosen phase in [0, min(interval, STAGGER_SEARCH_LIMIT))
+     */
+    static int chooseStaggeredPhase(int interval, @NotNull List<ScheduledTask> existing) {
+        if (interval <= 1) {
+            return 0;
+        }
+
+        int bestPhase = 0;
+        double bestWeight = Double.MAX_VALUE;
+        int phases = Math.min(interval, STAGGER_SEARCH_LIMIT);
+        for (int phase = 0; phase < phases && bestWeight > 0; phase++) {
+            double weight = 0;
+            for (ScheduledTask other : existing) {
+                int otherInterval = other.getInterval();
+                if (otherInterval <= 1) {
+                    continue; // Collides with every phase alike
+                }
+                int gcd = gcd(interval, otherInterval);
+                if (Math.floorMod(phase - other.getPhase(), gcd) == 0) {
+                    weight += (double) gcd / ((long) interval * otherInterval);
+                }
+            }
+            if (weight < bestWeight) {
+                bestWeight = weight;
+                bestPhase = phase;
+            }
+        }
+        return bestPhase;
+    }
+
+    // Server tick handling
+
+    /**
+     * Runs the expired delayed tasks, then all periodic tasks due on the
+     * current tick. A failing task is logged and does not prevent the
+     * remaining tasks from running.
+     */
+    private static void onServerTick(@NotNull MinecraftServer server) {
+        long start = System.nanoTime();
+        delayedTasks.advanceTo(server.getTicks());
+
+        long tick = ++currentTick;
+        for (ScheduledTask task : tasks) {
+            if (!task.isDue(tick)) {
+                continue;
+            }
+            try {
+                task.run(server);
+            } catch (Exception e) {
+                LOGGER.error("Tick task '{}' failed", task.getName(), e);
+            }
+        }
+        TICK_TIME.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Inserts a task after all tasks that run before it or at the same point,
+     * keeping the list in execution order.
+     */
+    @NotNull
+    private static synchronized ScheduledTask add(@NotNull ScheduledTask task) {
+        int index = 0;
+        while (index < tasks.size() && EXECUTION_ORDER.compare(tasks.get(index), task) <= 0) {
+            index++;
+        }
+        tasks.add(index, task);
+        LOGGER.debug("Scheduled tick task '{}' (interval {}, phase {})", task.getName(), task.getInterval(),
+                task.getPhase());
+        return task;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
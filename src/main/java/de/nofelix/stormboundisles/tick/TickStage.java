@@ -0,0 +1,30 @@
+package de.nofelix.stormboundisles.tick;
+
+/**
+ * The part of a server tick a {@link ScheduledTask} runs in.
+ *
+ * The scheduler runs the due tasks stage by stage, in declaration order, and
+ * by name within a stage. The order of a tick therefore does not depend on
+ * the order the tasks were scheduled in, which varies between startups since
+ * the initializers that schedule them run in parallel.
+ */
+public enum TickStage {
+    /**
+     * Publishes configuration reloads, so every later task of the tick sees
+     * the same configuration.
+     */
+    CONFIG,
+    /**
+     * Refreshes state the game logic reads, such as the island each player
+     * stands on.
+     */
+    TRACKING,
+    /**
+     * The game logic itself; the default stage.
+     */
+    GAME,
+    /**
+     * Writes out what the tick changed, such as scores, saves and metrics.
+     */
+    FLUSH
+}
@@ -0,0 +1,261 @@
+package de.nofelix.stormboundisles.tick;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timing wheel for delayed tasks keyed on game ticks.
+ *
+ * Timeouts are kept in a fixed ring of slots indexed by their deadline tick
+ * modulo the wheel size. Advancing the wheel by one tick only visits the
+ * slot of that tick, so the cost per tick is proportional to the timeouts
+ * that expire (plus the few long-delay timeouts that hash to the same slot
+ * but are due in a later rotation), not to the number of pending timeouts.
+ * Scheduling and cancelling are O(1).
+ *
+ * The wheel is driven by game ticks, so delays stretch with server lag and
+ * pause with the server. It is not thread-safe; use it from the server
+ * thread only.
+ *
+ * Example usage:
+ * ```java
+ * TimingWheel wheel = new TimingWheel(512);
+ * TimingWheel.Timeout timeout = wheel.schedule(100, () -> LOGGER.info("Five seconds of game time passed"));
+ * wheel.advanceTo(server.getTicks());
+ * timeout.cancel();
+ * ```
+ */
+public final class TimingWheel {
+
+    private final Timeout[] slots;
+    private final int mask;
+    private long currentTick;
+    private int size = 0;
+
+    /**
+     * Creates a wheel with at least the given number of slots.
+     * Delays up to the wheel size expire without being revisited.
+     *
+     * @param minimumSlots The minimum number of slots; rounded up to a power of two
+     * @throws IllegalArgumentException if minimumSlots is not positive
+     */
+    public TimingWheel(int minimumSlots) {
+        this(minimumSlots, 0L);
+    }
+
+    /**
+     * Creates a wheel with at least the given number of slots, starting at
+     * the given tick.
+     *
+     * @param minimumSlots The minimum number of slots; rounded up to a power of two
+     * @param startTick    The tick the wheel starts at
+     * @throws IllegalArgumentException if minimumSlots is not positive
+     */
+    public TimingWheel(int minimumSlots, long startTick) {
+        if (minimumSlots <= 0 || minimumSlots > 1 << 30) {
+            throw new IllegalArgumentException("Slot count must be between 1 and 2^30");
+        }
+        int slotCount = Integer.highestOneBit(minimumSlots - 1) << 1;
+        if (minimumSlots == 1) {
+            slotCount = 1;
+        }
+        this.slots = new Timeout[slotCount];
+        this.mask = slotCount - 1;
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules a task to run after the given number of ticks.
+     *
+     * @param delayTicks The delay in ticks; values below 1 run on the next advance
+     * @param task       The task to run
+     * @return A handle for cancelling the task
+     */
+    @NotNull
+    public Timeout schedule(long delayTicks, @NotNull Runnable task) {
+        return scheduleAt(currentTick + Math.max(1L, delayTicks), task);
+    }
+
+    /**
+     * Schedules a task to run when the wheel reaches the given tick.
+     *
+     * @param deadline The tick to run the task at; past ticks run on the next advance
+     * @param task     The task to run
+     * @return A handle for cancelling the task
+     */
+    @NotNull
+    public Timeout scheduleAt(long deadline, @NotNull Runnable task) {
+        Timeout timeout = new Timeout(Math.max(deadline, currentTick + 1), task);
+        link(timeout);
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel to the given tick and runs every task whose deadline
+     * has been reached. Tasks may schedule or cancel other timeouts; timeouts
+     * they schedule run on a later advance, and timeouts they cancel do not
+     * run even if they expired in the same advance.
+     *
+     * @param tick The new current tick; ticks at or before the current tick are ignored
+     * @return The number of tasks run
+     */
+    public int advanceTo(long tick) {
+        if (tick <= currentTick) {
+            return 0;
+        }
+
+        long steps = Math.min(tick - currentTick, slots.length);
+        long from = currentTick;
+        currentTick = tick;
+
+        List<Timeout> expired = null;
+        for (long step = 1; step <= steps; step++) {
+            int index = (int) ((from + step) & mask);
+            Timeout timeout = slots[index];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.deadline <= tick) {
+                    unlink(timeout);
+                    if (expired == null) {
+                        expired = new ArrayList<>();
+                    }
+                    expired.add(timeout);
+                }
+                timeout = next;
+            }
+        }
+
+        if (expired == null) {
+            return 0;
+        }
+        int ran = 0;
+        for (Timeout timeout : expired) {
+            // An earlier task of this batch may have cancelled it
+            if (!timeout.pending) {
+                continue;
+            }
+            timeout.pending = false;
+            timeout.task.run();
+            ran++;
+        }
+        return ran;
+    }
+
+    /**
+     * Gets the tick the wheel was last advanced to.
+     *
+     * @return The current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the number of pending timeouts.
+     *
+     * @return The pending timeout count
+     */
+    public int size() {
+        return size;
+    }
+
+    // Private helper methods
+
+    private void link(@NotNull Timeout timeout) {
+        int index = (int) (timeout.deadline & mask);
+        Timeout head = slots[index];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[index] = timeout;
+        timeout.linked = true;
+        timeout.pending = true;
+        size++;
+    }
+
+    private void unlink(@NotNull Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[(int) (timeout.deadline & mask)] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.linked = false;
+        size--;
+    }
+
+    // Inner classes
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public final class Timeout {
+        private final long deadline;
+        @NotNull
+        private final Runnable task;
+        @Nullable
+        private Timeout prev;
+        @Nullable
+        private Timeout next;
+        // Whether the timeout is in a slot; expired timeouts leave it before they run
+        private boolean linked;
+        // Whether the task has neither run nor been cancelled
+        private boolean pending;
+
+        private Timeout(long deadline, @NotNull Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Gets the tick this timeout runs at.
+         *
+         * @return The deadline tick
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Gets the ticks left until this timeout runs.
+         *
+         * @return The remaining ticks, or 0 if the timeout is no longer pending
+         */
+        public long getRemainingTicks() {
+            return pending ? Math.max(0L, deadline - currentTick) : 0L;
+        }
+
+        /**
+         * Checks whether the task has neither run nor been cancelled.
+         *
+         * @return true if the timeout is still pending
+         */
+        public boolean isPending() {
+            return pending;
+        }
+
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return true if the task was pending and is now cancelled
+         */
+        public boolean cancel() {
+            if (!pending) {
+                return false;
+            }
+            pending = false;
+            if (linked) {
+                unlink(this);
+            }
+            return true;
+        }
+    }
+}
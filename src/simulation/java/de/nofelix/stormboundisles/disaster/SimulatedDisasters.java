@@ -0,0 +1,49 @@
+package de.nofelix.stormboundisles.disaster;
+
+import de.nofelix.stormboundisles.tick.TimingWheel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The disaster state tracking of {@link DisasterManager} for the load
+ * simulation, which has no server to broadcast to or apply effects on.
+ *
+ * Disasters are activated in a {@link DisasterStateTable} and expire through
+ * a {@link TimingWheel} after their cooldown, exactly as in
+ * {@link DisasterManager#triggerDisaster}.
+ */
+public final class SimulatedDisasters {
+    private static final int WHEEL_SLOTS = 1024;
+
+    private final DisasterStateTable table = new DisasterStateTable();
+    private final TimingWheel wheel = new TimingWheel(WHEEL_SLOTS);
+
+    /**
+     * Activates a disaster unless it is already active on the island.
+     *
+     * @param islandId      The island ID
+     * @param type          The disaster type
+     * @param cooldownTicks Ticks until the disaster expires
+     * @return true if the disaster was triggered
+     */
+    public boolean trigger(@NotNull String islandId, @NotNull DisasterType type, int cooldownTicks) {
+        return table.activate(islandId, type,
+                active -> wheel.schedule(cooldownTicks, () -> table.expire(active))) != null;
+    }
+
+    /**
+     * Runs the expiries due up to the given tick.
+     *
+     * @param tick The current tick
+     * @return The number of expiries run
+     */
+    public int advanceTo(long tick) {
+        return wheel.advanceTo(tick);
+    }
+
+    /**
+     * @return The number of active disasters across all islands
+     */
+    public int getActiveCount() {
+        return table.getActiveCount();
+    }
+}
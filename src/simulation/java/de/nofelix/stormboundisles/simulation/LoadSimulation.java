@@ -0,0 +1,319 @@
+package de.nofelix.stormboundisles.simulation;
+
+import de.nofelix.stormboundisles.config.ConfigManager;
+import de.nofelix.stormboundisles.data.DataManager;
+import de.nofelix.stormboundisles.data.Island;
+import de.nofelix.stormboundisles.data.Team;
+import de.nofelix.stormboundisles.disaster.DisasterType;
+import de.nofelix.stormboundisles.disaster.SimulatedDisasters;
+import de.nofelix.stormboundisles.game.ScoreSync;
+import de.nofelix.stormboundisles.handler.BoundarySchedule;
+import de.nofelix.stormboundisles.handler.BuffSchedule;
+import de.nofelix.stormboundisles.metrics.Counter;
+import de.nofelix.stormboundisles.metrics.Histogram;
+import de.nofelix.stormboundisles.metrics.Metrics;
+import de.nofelix.stormboundisles.tick.PlayerBucketing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless load simulation of the mod's per-tick work with synthetic players.
+ *
+ * Reproduces the tick loops of the buff aura, the build-phase boundary check,
+ * the disaster roll and the scoreboard flush on top of the real
+ * {@link DataManager}, {@link de.nofelix.stormboundisles.data.Zone},
+ * {@link PlayerBucketing}, {@link BuffSchedule}, {@link BoundarySchedule} and
+ * {@link ScoreSync} code, with {@link SyntheticPlayer}s standing in for server
+ * players and caching their islands like the player location tracker. The
+ * game is taken to be in the build phase, so the boundary check is active.
+ * Effects, messages, teleports and score packets are counted instead of
+ * sent, since there is no server to send them to; saving is left to the
+ * persistence benchmark.
+ *
+ * Only the decisions come from the shared code; the loops around them are
+ * copies of the handlers' and have to be kept in line by hand. The boundary
+ * step, for instance, repeats PlayerEventHandler's island lookup, warning
+ * cooldown and teleport.
+ *
+ * Every tick first moves the players, then runs the mod's work; only the
+ * latter is measured. At the end the tick time percentiles, the allocation
+ * rate and the {@link Metrics} report are printed.
+ *
+ * Example usage:
+ * ```
+ * ./gradlew simulate -PsimArgs="--players 1000 --ticks 6000"
+ * ```
+ */
+public final class LoadSimulation {
+    private static final long TICK_NANOS = 50_000_000L;
+    /** Average ticks between two points a player earns for their team */
+    private static final int TICKS_PER_POINT = 600;
+
+    private static final Histogram LOCATION_TIME = Metrics.histogram("sim.location");
+    private static final Histogram POINTS_TIME = Metrics.histogram("sim.points");
+    private static final Histogram BOUNDARY_TIME = Metrics.histogram("sim.boundary");
+    private static final Histogram BUFF_TIME = Metrics.histogram("sim.buff");
+    private static final Histogram DISASTER_TIME = Metrics.histogram("sim.disaster");
+    private static final Histogram SCOREBOARD_TIME = Metrics.histogram("sim.scoreboard");
+    private static final Counter BOUNDARY_WARNINGS = Metrics.counter("sim.boundary.warnings");
+    private static final Counter BOUNDARY_TELEPORTS = Metrics.counter("sim.boundary.teleports");
+    private static final Counter BUFFS_APPLIED = Metrics.counter("sim.buff.applied");
+    private static final Counter DISASTERS_TRIGGERED = Metrics.counter("sim.disaster.triggered");
+    private static final Counter DISASTER_EFFECTS = Metrics.counter("sim.disaster.effects");
+    private static final Counter SCORE_UPDATES = Metrics.counter("sim.scoreboard.updates");
+
+    @NotNull
+    private final SimulationOptions options;
+    @NotNull
+    private final Random random;
+    @NotNull
+    private final SimulatedWorld world;
+    @NotNull
+    private final SimulatedDisasters disasters = new SimulatedDisasters();
+
+    private final BuffSchedule buffSchedule = new BuffSchedule();
+    private final Map<UUID, Long> lastBoundaryWarning = new HashMap<>();
+    private final BoundarySchedule boundarySchedule = new BoundarySchedule();
+    private final ScoreSync scoreSync = new ScoreSync();
+    // Counts the score packets ScoreboardManager would send
+    private final ScoreSync.ScoreView scoreView = new ScoreSync.ScoreView() {
+        @Override
+        public boolean show(@NotNull Team team, int points) {
+            SCORE_UPDATES.increment();
+            return true;
+        }
+
+        @Override
+        public void remove(@NotNull String teamName) {
+            SCORE_UPDATES.increment();
+        }
+    };
+
+    private LoadSimulation(@NotNull SimulationOptions options) {
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.world = SimulatedWorld.create(options, random);
+        DataManager.addScoreListener(team -> scoreSync.markDirty(team.getName()));
+    }
+
+    public static void main(String[] args) {
+        SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(SimulationOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf("Simulating %d players on %d islands for %d ticks (%s)%n", options.players(),
+                options.islands(), options.ticks(), options.paced() ? "20 TPS" : "unpaced");
+        new LoadSimulation(options).run();
+    }
+
+    /**
+     * Runs the warmup and the measured ticks and prints the report.
+     */
+    private void run() {
+        TickStats stats = new TickStats(options.ticks());
+        int totalTicks = options.warmup() + options.ticks();
+        long nextTick = System.nanoTime();
+
+        for (long tick = 1; tick <= totalTicks; tick++) {
+            if (tick == options.warmup() + 1) {
+                Metrics.reset();
+            }
+
+            for (SyntheticPlayer player : world.getPlayers()) {
+                player.move(random);
+            }
+
+            long startBytes = stats.allocatedBytes();
+            long start = System.nanoTime();
+            runModTick(tick);
+            long elapsed = System.nanoTime() - start;
+            long allocated = stats.allocatedBytes() - startBytes;
+            if (tick > options.warmup()) {
+                stats.record(elapsed, allocated);
+            }
+
+            if (options.paced()) {
+                nextTick += TICK_NANOS;
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    // Behind schedule: like the server, do not try to catch up
+                    nextTick = System.nanoTime();
+                }
+            }
+        }
+
+        System.out.println(stats.report());
+        System.out.println("Metrics:\n  " + String.join("\n  ", Metrics.report()));
+        System.out.printf("Active disasters at the end: %d%n", disasters.getActiveCount());
+    }
+
+    /**
+     * The mod's work for one tick, in the order the tick tasks run.
+     */
+    private void runModTick(long tick) {
+        disasters.advanceTo(tick);
+
+        long start = System.nanoTime();
+        for (SyntheticPlayer player : world.getPlayers()) {
+            if (player.updateIslands()) {
+                // PlayerEventHandler's ZONE_EXIT listener
+                boundarySchedule.checkNow(player.getUuid());
+            }
+        }
+        LOCATION_TIME.record(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        awardPoints();
+        POINTS_TIME.record(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        checkBoundaries(tick);
+        BOUNDARY_TIME.record(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        applyBuffs(tick);
+        BUFF_TIME.record(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        rollDisaster(tick);
+        DISASTER_TIME.record(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        flushDirtyScores();
+        SCOREBOARD_TIME.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Lets players earn points for their team now and then, which runs the
+     * journal and score listeners of DataManager.
+     */
+    private void awardPoints() {
+        for (SyntheticPlayer player : world.getPlayers()) {
+            if (random.nextInt(TICKS_PER_POINT) == 0) {
+                Team team = DataManager.getTeamOf(player.getUuid());
+                if (team != null) {
+                    team.addPoints(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mirrors PlayerEventHandler's build-phase boundary check, picking the
+     * players to check with a real {@link BoundarySchedule}.
+     */
+    private void checkBoundaries(long tick) {
+        int interval = ConfigManager.getPlayerBoundaryCheckInterval();
+        for (SyntheticPlayer player : world.getPlayers()) {
+            UUID uuid = player.getUuid();
+            if (!boundarySchedule.isDue(uuid, tick, interval)) {
+                continue;
+            }
+
+            Island island = findOwnIsland(uuid);
+            boolean outside = island != null && !player.isOnIsland(island);
+            boundarySchedule.checked(uuid, outside);
+            if (!outside) {
+                continue;
+            }
+
+            long now = System.currentTimeMillis();
+            Long last = lastBoundaryWarning.get(uuid);
+            if (last == null || (now - last) > ConfigManager.getPlayerBoundaryWarningCooldownMs()) {
+                BOUNDARY_WARNINGS.increment();
+                lastBoundaryWarning.put(uuid, now);
+            }
+            if (island.getSpawnY() >= 0) {
+                player.teleport(island.getSpawnX(), island.getSpawnZ());
+                BOUNDARY_TELEPORTS.increment();
+            }
+        }
+    }
+
+    /**
+     * Mirrors BuffAuraHandler, deciding refreshes with a real
+     * {@link BuffSchedule} and assuming players keep the effects they were
+     * given until they leave their island. The handler takes the buff away
+     * on the zone exit itself; here it is noticed at the next check.
+     */
+    private void applyBuffs(long tick) {
+        int interval = ConfigManager.getBuffUpdateInterval();
+        int duration = ConfigManager.getBuffDurationTicks();
+        for (SyntheticPlayer player : world.getPlayers()) {
+            if (!PlayerBucketing.isDue(player.getUuid(), tick, interval)) {
+                continue;
+            }
+
+            Island island = findOwnIsland(player.getUuid());
+            if (island == null || !player.isOnIsland(island)) {
+                buffSchedule.forget(player.getUuid());
+                continue;
+            }
+
+            if (!buffSchedule.needsRefresh(player.getUuid(), island.getType(), tick, interval)) {
+                continue;
+            }
+            buffSchedule.applied(player.getUuid(), island.getType(), tick, duration);
+            BUFFS_APPLIED.increment();
+        }
+    }
+
+    /**
+     * Mirrors DisasterManager's periodic roll: a random disaster on a random
+     * island, applied to every player standing on it.
+     */
+    private void rollDisaster(long tick) {
+        if (tick % ConfigManager.getDisasterIntervalTicks() != 0) {
+            return;
+        }
+
+        List<Island> islands = world.getIslands();
+        Island island = islands.get(random.nextInt(islands.size()));
+        DisasterType[] types = DisasterType.values();
+        DisasterType type = types[random.nextInt(types.length)];
+        if (!disasters.trigger(island.getId(), type, ConfigManager.getDisasterCooldownTicks())) {
+            return;
+        }
+
+        DISASTERS_TRIGGERED.increment();
+        for (SyntheticPlayer player : world.getPlayers()) {
+            if (player.isOnIsland(island)) {
+                DISASTER_EFFECTS.increment();
+            }
+        }
+    }
+
+    /**
+     * Mirrors ScoreboardManager's flush with a real {@link ScoreSync}: only
+     * teams whose points differ from the shown value cause an update.
+     */
+    private void flushDirtyScores() {
+        scoreSync.flush(scoreView);
+    }
+
+    @Nullable
+    private static Island findOwnIsland(@NotNull UUID playerUuid) {
+        Team team = DataManager.getTeamOf(playerUuid);
+        if (team == null || team.getIslandId() == null) {
+            return null;
+        }
+
+        Island island = DataManager.getIsland(team.getIslandId());
+        return island != null && island.getZone() != null ? island : null;
+    }
+}
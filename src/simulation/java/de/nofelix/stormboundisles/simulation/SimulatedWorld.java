@@ -0,0 +1,132 @@
+package de.nofelix.stormboundisles.simulation;
+
+import de.nofelix.stormboundisles.data.DataManager;
+import de.nofelix.stormboundisles.data.Island;
+import de.nofelix.stormboundisles.data.IslandType;
+import de.nofelix.stormboundisles.data.Team;
+import de.nofelix.stormboundisles.data.Zone;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Builds the islands, teams and players of a simulation run and registers
+ * the islands and teams with {@link DataManager}.
+ *
+ * Islands are jagged circles placed on a ring around the origin, each with
+ * its spawn at the center and one team assigned. Players are dealt to the
+ * teams in turn and start at a random spot on their team's island.
+ */
+final class SimulatedWorld {
+    static final int SURFACE_Y = 64;
+
+    private static final int ISLAND_RADIUS = 96;
+    private static final int ISLAND_SPACING = 320;
+
+    @NotNull
+    private final List<Island> islands;
+    @NotNull
+    private final List<SyntheticPlayer> players;
+
+    private SimulatedWorld(@NotNull List<Island> islands, @NotNull List<SyntheticPlayer> players) {
+        this.islands = islands;
+        this.players = players;
+    }
+
+    /**
+     * Creates and registers a world for the given options, replacing any
+     * islands and teams already known to the DataManager.
+     *
+     * @param options The simulation options
+     * @param random  The simulation's random source
+     * @return The world
+     */
+    @NotNull
+    static SimulatedWorld create(@NotNull SimulationOptions options, @NotNull Random random) {
+        DataManager.clearTeams();
+        DataManager.clearIslands();
+
+        IslandType[] types = IslandType.values();
+        double ringRadius = options.islands() * ISLAND_SPACING / (2 * Math.PI);
+        List<Island> islands = new ArrayList<>(options.islands());
+        List<Team> teams = new ArrayList<>(options.islands());
+        for (int i = 0; i < options.islands(); i++) {
+            double angle = 2 * Math.PI * i / options.islands();
+            int centerX = (int) Math.round(Math.cos(angle) * ringRadius);
+            int centerZ = (int) Math.round(Math.sin(angle) * ringRadius);
+
+            Island island = new Island("island_%02d".formatted(i + 1), types[i % types.length]);
+            island.setZone(new Zone(createJaggedCircle(centerX, centerZ, options.vertices(), random)));
+            island.setSpawnPoint(centerX, SURFACE_Y, centerZ);
+
+            Team team = new Team("team_%02d".formatted(i + 1));
+            team.setIslandId(island.getId());
+            island.setTeamName(team.getName());
+
+            DataManager.putIsland(island);
+            DataManager.putTeam(team);
+            islands.add(island);
+            teams.add(team);
+        }
+
+        List<SyntheticPlayer> players = new ArrayList<>(options.players());
+        for (int i = 0; i < options.players(); i++) {
+            Team team = teams.get(i % teams.size());
+            Island island = islands.get(i % islands.size());
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            team.addMember(uuid);
+
+            BlockPos start = randomPositionOn(island, random);
+            players.add(new SyntheticPlayer(uuid, start.getX() + 0.5, start.getZ() + 0.5,
+                    random.nextDouble() * 2 * Math.PI));
+        }
+        return new SimulatedWorld(List.copyOf(islands), List.copyOf(players));
+    }
+
+    @NotNull
+    List<Island> getIslands() {
+        return islands;
+    }
+
+    @NotNull
+    List<SyntheticPlayer> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Picks a random block inside the island's zone.
+     */
+    @NotNull
+    private static BlockPos randomPositionOn(@NotNull Island island, @NotNull Random random) {
+        int spawnX = island.getSpawnX();
+        int spawnZ = island.getSpawnZ();
+        while (true) {
+            BlockPos pos = new BlockPos(spawnX + random.nextInt(2 * ISLAND_RADIUS) - ISLAND_RADIUS, SURFACE_Y,
+                    spawnZ + random.nextInt(2 * ISLAND_RADIUS) - ISLAND_RADIUS);
+            if (island.getZone().contains(pos)) {
+                return pos;
+            }
+        }
+    }
+
+    /**
+     * Builds a non-convex island outline by jittering the radius of points on
+     * a circle.
+     */
+    @NotNull
+    private static List<BlockPos> createJaggedCircle(int centerX, int centerZ, int vertexCount,
+            @NotNull Random random) {
+        List<BlockPos> points = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            double angle = 2 * Math.PI * i / vertexCount;
+            double radius = ISLAND_RADIUS * (0.75 + 0.25 * random.nextDouble());
+            points.add(new BlockPos(centerX + (int) Math.round(Math.cos(angle) * radius), SURFACE_Y,
+                    centerZ + (int) Math.round(Math.sin(angle) * radius)));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,83 @@
+package de.nofelix.stormboundisles.simulation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Command line options of the {@link LoadSimulation}.
+ *
+ * @param players  Number of synthetic players
+ * @param islands  Number of islands, each with one team
+ * @param vertices Number of vertices of each island's zone
+ * @param ticks    Number of measured ticks
+ * @param warmup   Number of ticks run before measuring
+ * @param seed     Seed of all random decisions
+ * @param paced    Whether ticks are paced to 20 TPS like a real server
+ */
+record SimulationOptions(int players, int islands, int vertices, int ticks, int warmup, long seed, boolean paced) {
+    static final String USAGE = """
+            Usage: LoadSimulation [options]
+              --players <n>   synthetic players (default 1000)
+              --islands <n>   islands, one team each (default 5)
+              --vertices <n>  vertices per island zone (default 64)
+              --ticks <n>     measured ticks (default 2400)
+              --warmup <n>    unmeasured warmup ticks (default 200)
+              --seed <n>      random seed (default 42)
+              --unpaced       run ticks back to back instead of at 20 TPS""";
+
+    SimulationOptions {
+        requirePositive("players", players);
+        requirePositive("islands", islands);
+        requirePositive("ticks", ticks);
+        if (vertices < 3) {
+            throw new IllegalArgumentException("vertices must be at least 3");
+        }
+        if (warmup < 0) {
+            throw new IllegalArgumentException("warmup must not be negative");
+        }
+    }
+
+    /**
+     * Parses the command line.
+     *
+     * @param args The arguments
+     * @return The options
+     * @throws IllegalArgumentException if an argument is unknown or invalid
+     */
+    @NotNull
+    static SimulationOptions parse(@NotNull String[] args) {
+        int players = 1000;
+        int islands = 5;
+        int vertices = 64;
+        int ticks = 2400;
+        int warmup = 200;
+        long seed = 42L;
+        boolean paced = true;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--players" -> players = Integer.parseInt(value(args, ++i));
+                case "--islands" -> islands = Integer.parseInt(value(args, ++i));
+                case "--vertices" -> vertices = Integer.parseInt(value(args, ++i));
+                case "--ticks" -> ticks = Integer.parseInt(value(args, ++i));
+                case "--warmup" -> warmup = Integer.parseInt(value(args, ++i));
+                case "--seed" -> seed = Long.parseLong(value(args, ++i));
+                case "--unpaced" -> paced = false;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        return new SimulationOptions(players, islands, vertices, ticks, warmup, seed, paced);
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+    }
+}
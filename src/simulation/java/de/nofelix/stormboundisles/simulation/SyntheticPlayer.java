@@ -0,0 +1,130 @@
+package de.nofelix.stormboundisles.simulation;
+
+import de.nofelix.stormboundisles.data.DataManager;
+import de.nofelix.stormboundisles.data.Island;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * A simulated player wandering around at walking speed.
+ *
+ * The heading drifts a little every tick, so players roam their island and
+ * now and then walk off its edge. Like an entity, the player keeps its block
+ * position and only builds a new one when it enters another block. Like
+ * PlayerLocationTracker, it also caches the islands it stands on and only
+ * looks them up again after entering another block or an island change.
+ */
+final class SyntheticPlayer {
+    /** Walking speed of a player, in blocks per tick */
+    private static final double WALK_SPEED = 0.2158;
+    /** Largest change of heading per tick, in radians */
+    private static final double MAX_TURN = 0.15;
+
+    @NotNull
+    private final UUID uuid;
+    private double x;
+    private double z;
+    private double heading;
+    @NotNull
+    private BlockPos blockPos;
+    // Islands whose zones contain the block column, in index order
+    @NotNull
+    private List<Island> islands = List.of();
+    // Island index version the cached islands were looked up at, -1 if never
+    private long islandIndexVersion = -1;
+
+    SyntheticPlayer(@NotNull UUID uuid, double x, double z, double heading) {
+        this.uuid = uuid;
+        this.x = x;
+        this.z = z;
+        this.heading = heading;
+        this.blockPos = new BlockPos(MathHelper.floor(x), SimulatedWorld.SURFACE_Y, MathHelper.floor(z));
+    }
+
+    @NotNull
+    UUID getUuid() {
+        return uuid;
+    }
+
+    @NotNull
+    BlockPos getBlockPos() {
+        return blockPos;
+    }
+
+    /**
+     * Looks up the islands the player stands on, but only if the player
+     * entered another block or the islands changed since the last lookup.
+     *
+     * @return true if the player left an island they stood on, where
+     *         PlayerLocationTracker fires ZONE_EXIT
+     */
+    boolean updateIslands() {
+        long indexVersion = DataManager.getIslandIndexVersion();
+        if (indexVersion == islandIndexVersion) {
+            return false;
+        }
+
+        List<Island> previous = islands;
+        islands = DataManager.islandsAt(blockPos);
+        islandIndexVersion = indexVersion;
+        for (Island island : previous) {
+            if (!islands.contains(island)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the player stands on the given island, updating the
+     * cached islands first.
+     *
+     * @param island The island
+     * @return true if the island's zone contains the player's block column
+     */
+    boolean isOnIsland(@NotNull Island island) {
+        updateIslands();
+        for (Island candidate : islands) {
+            if (candidate == island) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the player by one tick.
+     *
+     * @param random The simulation's random source
+     */
+    void move(@NotNull Random random) {
+        heading += (random.nextDouble() * 2 - 1) * MAX_TURN;
+        setPosition(x + Math.cos(heading) * WALK_SPEED, z + Math.sin(heading) * WALK_SPEED);
+    }
+
+    /**
+     * Puts the player onto the given block, as a teleport does.
+     *
+     * @param blockX The block X coordinate
+     * @param blockZ The block Z coordinate
+     */
+    void teleport(int blockX, int blockZ) {
+        setPosition(blockX + 0.5, blockZ + 0.5);
+    }
+
+    private void setPosition(double x, double z) {
+        this.x = x;
+        this.z = z;
+        int blockX = MathHelper.floor(x);
+        int blockZ = MathHelper.floor(z);
+        if (blockX != blockPos.getX() || blockZ != blockPos.getZ()) {
+            blockPos = new BlockPos(blockX, SimulatedWorld.SURFACE_Y, blockZ);
+            islandIndexVersion = -1;
+        }
+    }
+}
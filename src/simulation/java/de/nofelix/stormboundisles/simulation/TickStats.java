@@ -0,0 +1,110 @@
+package de.nofelix.stormboundisles.simulation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Records the time and heap allocation of every measured tick.
+ *
+ * Allocation is read from the JVM's per-thread allocation counter, so it
+ * only covers the simulation thread, which plays the server thread. If the
+ * JVM does not provide the counter, allocation is reported as unavailable.
+ */
+final class TickStats {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int TICKS_PER_SECOND = 20;
+    private static final long TICK_BUDGET_NANOS = 50_000_000L;
+
+    @NotNull
+    private final long[] tickNanos;
+    @NotNull
+    private final long[] tickBytes;
+    private final com.sun.management.ThreadMXBean threads;
+    private int count;
+
+    TickStats(int capacity) {
+        this.tickNanos = new long[capacity];
+        this.tickBytes = new long[capacity];
+        com.sun.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean()
+                instanceof com.sun.management.ThreadMXBean sunBean ? sunBean : null;
+        if (bean != null && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            this.threads = bean;
+        } else {
+            this.threads = null;
+        }
+    }
+
+    /**
+     * @return The bytes allocated by the current thread so far, or 0 if unknown
+     */
+    long allocatedBytes() {
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    /**
+     * Records one measured tick.
+     *
+     * @param nanos The time the tick took
+     * @param bytes The bytes the tick allocated
+     */
+    void record(long nanos, long bytes) {
+        tickNanos[count] = nanos;
+        tickBytes[count] = bytes;
+        count++;
+    }
+
+    /**
+     * Formats the tick time percentiles and the allocation rate.
+     *
+     * @return The report lines
+     */
+    @NotNull
+    String report() {
+        if (count == 0) {
+            return "No ticks measured";
+        }
+
+        long[] sorted = Arrays.copyOf(tickNanos, count);
+        Arrays.sort(sorted);
+        long totalNanos = 0;
+        long totalBytes = 0;
+        int overBudget = 0;
+        for (int i = 0; i < count; i++) {
+            totalNanos += tickNanos[i];
+            totalBytes += tickBytes[i];
+            if (tickNanos[i] > TICK_BUDGET_NANOS) {
+                overBudget++;
+            }
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append("Tick time over %d ticks (ms): mean %.3f, p50 %.3f, p90 %.3f, p99 %.3f, p99.9 %.3f, max %.3f%n"
+                .formatted(count,
+                        totalNanos / (double) count / NANOS_PER_MILLI,
+                        percentile(sorted, 0.50) / NANOS_PER_MILLI,
+                        percentile(sorted, 0.90) / NANOS_PER_MILLI,
+                        percentile(sorted, 0.99) / NANOS_PER_MILLI,
+                        percentile(sorted, 0.999) / NANOS_PER_MILLI,
+                        sorted[count - 1] / NANOS_PER_MILLI));
+        report.append("Ticks over the 50 ms budget: %d%n".formatted(overBudget));
+        if (threads != null) {
+            double bytesPerTick = totalBytes / (double) count;
+            report.append("Allocation: %.0f bytes/tick, %.3f MB/s at %d TPS".formatted(
+                    bytesPerTick, bytesPerTick * TICKS_PER_SECOND / (1024.0 * 1024.0), TICKS_PER_SECOND));
+        } else {
+            report.append("Allocation: not supported by this JVM");
+        }
+        return report.toString();
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private static long percentile(@NotNull long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}